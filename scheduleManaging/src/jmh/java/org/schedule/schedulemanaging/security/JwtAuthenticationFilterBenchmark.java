@@ -0,0 +1,76 @@
+package org.schedule.schedulemanaging.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.schedule.schedulemanaging.entity.User;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 처리량 비교.
+ * legacy: 기존 방식(validateToken 후 getAuthentication으로 토큰을 두 번 파싱), filter: 캐시를 사용하는 현재 필터.
+ * activeTokens는 동시에 요청을 보내는 사용자(토큰) 수.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "vms-schedule-managing-secret-key-for-jwt-256-bit-minimum-length";
+
+    @Param({"1000", "50000"})
+    public int activeTokens;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 86_400_000L);
+        filter = new JwtAuthenticationFilter(new JwtAuthenticationCache(tokenProvider, 10_000));
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = tokenProvider.createToken(User.builder()
+                    .id((long) i)
+                    .email("user" + i + "@nexus.com")
+                    .name("user" + i)
+                    .role(User.Role.USER)
+                    .build());
+        }
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        String token = nextToken();
+        return tokenProvider.validateToken(token) ? tokenProvider.getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules");
+        request.addHeader("Authorization", "Bearer " + nextToken());
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
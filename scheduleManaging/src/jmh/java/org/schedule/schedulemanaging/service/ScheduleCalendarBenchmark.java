@@ -0,0 +1,150 @@
+package org.schedule.schedulemanaging.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.schedule.schedulemanaging.ScheduleManagingApplication;
+import org.schedule.schedulemanaging.dto.schedule.CalendarScheduleResponse;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleResponse;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캘린더 범위 조회와 기존 페이지 조회 비교 (PostgreSQL 컨테이너 + 일정 100만 건, Docker 필요).
+ * 조직 100곳 x 강사 5명 x 강사당 2,000회차(13시간 간격, 약 3년) = 1,000,000행.
+ * calendar: 한 조직의 6주 범위 (idx_schedule_org_time 범위 스캔, DTO 프로젝션, 약 390행),
+ * calendarEtag: 같은 범위의 ETag 집계 (If-None-Match 적중 시 304 경로),
+ * pagedFirstPage / pagedWindowPage: 강사 한 명의 시작 시각 정렬 페이지(100건) 첫 페이지와 같은 6주가 들어 있는 페이지
+ * (엔티티 적재 + COUNT(*), OFFSET만큼 읽고 버림). 캘린더 한 화면을 채우려면 강사 수만큼 페이지 요청이 필요.
+ * 실행: ./gradlew jmh (Spring 컨텍스트를 띄우고 데이터를 적재하므로 준비에 수십 초 소요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleCalendarBenchmark {
+
+    private static final int ORGANIZATIONS = 100;
+    private static final int INSTRUCTORS_PER_ORGANIZATION = 5;
+    private static final int SCHEDULES_PER_INSTRUCTOR = 2_000;
+    private static final int PAGE_SIZE = 100;
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private PostgreSQLContainer postgres;
+    private ConfigurableApplicationContext context;
+    private ScheduleService scheduleService;
+
+    private String email;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int windowPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer("postgres:16-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(ScheduleManagingApplication.class)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.org.hibernate.SQL=warn")
+                .run();
+        scheduleService = context.getBean(ScheduleService.class);
+
+        List<User> instructors = seedInstructors();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // 강사마다 시작 시각을 조금씩 어긋나게 해 같은 조직 강사들의 회차가 섞이도록 함
+        jdbcTemplate.update(
+                "INSERT INTO schedules (id, title, start_time, end_time, instructor_id, organization_id, " +
+                "max_capacity, current_participants, version, created_at, updated_at) " +
+                "SELECT nextval('schedule_seq'), 'class', " +
+                "CAST(? AS timestamp) + (g * INTERVAL '13 hours') + ((u.id % 13) * INTERVAL '1 hour'), " +
+                "CAST(? AS timestamp) + (g * INTERVAL '13 hours') + ((u.id % 13) * INTERVAL '1 hour') + INTERVAL '1 hour', " +
+                "u.id, u.organization_id, 20, 0, 0, now(), now() " +
+                "FROM users u CROSS JOIN generate_series(0, ? - 1) g WHERE u.email LIKE 'bench-instructor-%'",
+                Timestamp.valueOf(FIRST_START), Timestamp.valueOf(FIRST_START), SCHEDULES_PER_INSTRUCTOR);
+        jdbcTemplate.execute("ANALYZE schedules");
+
+        // 데이터 한가운데 6주
+        User instructor = instructors.get(instructors.size() / 2);
+        email = instructor.getEmail();
+        from = FIRST_START.plusHours(13L * SCHEDULES_PER_INSTRUCTOR / 2).toLocalDate().atStartOfDay();
+        to = from.plusDays(42);
+        Integer before = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schedules WHERE instructor_id = ? AND start_time < ?",
+                Integer.class, instructor.getId(), Timestamp.valueOf(from));
+        windowPage = before / PAGE_SIZE;
+    }
+
+    private List<User> seedInstructors() {
+        OrganizationRepository organizationRepository = context.getBean(OrganizationRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<User> instructors = new ArrayList<>();
+        for (int o = 0; o < ORGANIZATIONS; o++) {
+            Organization organization = organizationRepository.save(Organization.builder().name("bench-" + o).build());
+            for (int i = 0; i < INSTRUCTORS_PER_ORGANIZATION; i++) {
+                instructors.add(User.builder()
+                        .email("bench-instructor-" + o + "-" + i + "@bench.test")
+                        .password("password")
+                        .name("instructor " + o + "-" + i)
+                        .role(User.Role.INSTRUCTOR)
+                        .organization(organization)
+                        .build());
+            }
+        }
+        return userRepository.saveAll(instructors);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public List<CalendarScheduleResponse> calendar() {
+        return scheduleService.getCalendar(email, from, to);
+    }
+
+    @Benchmark
+    public String calendarEtag() {
+        return scheduleService.getCalendarEtag(email, from, to);
+    }
+
+    @Benchmark
+    public Page<ScheduleResponse> pagedFirstPage() {
+        return scheduleService.getSchedules(email, PageRequest.of(0, PAGE_SIZE, Sort.by("startTime")));
+    }
+
+    @Benchmark
+    public Page<ScheduleResponse> pagedWindowPage() {
+        return scheduleService.getSchedules(email, PageRequest.of(windowPage, PAGE_SIZE, Sort.by("startTime")));
+    }
+}
@@ -0,0 +1,45 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 원장 선점/반환 처리량과 지연 분포(SampleTime 모드의 p99 등).
+ * 한 일정에 예약이 몰리는 경우(schedules=1)와 여러 일정으로 분산된 경우 비교. DB 접근 없이 원장 연산만 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class SeatLedgerBenchmark {
+
+    @Param({"1", "64"})
+    public int schedules;
+
+    private SeatLedger seatLedger;
+
+    @Setup
+    public void setUp() {
+        // 트랜잭션 밖에서 선점/반환만 반복하므로 저장소, 좌석 피드, 트랜잭션 매니저는 사용되지 않음
+        seatLedger = new SeatLedger(null, null, null, null);
+    }
+
+    @Benchmark
+    public boolean reserveAndRelease() {
+        long scheduleId = Thread.currentThread().threadId() % schedules;
+        boolean reserved = seatLedger.tryReserve(scheduleId, () -> 30);
+        if (reserved) {
+            seatLedger.release(scheduleId);
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,137 @@
+package org.schedule.schedulemanaging.service.membership;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.schedule.schedulemanaging.dto.membership.MembershipBalance;
+import org.schedule.schedulemanaging.repository.MembershipRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 소수 회원에게 예약이 몰릴 때 회원권 차감 처리량 비교 (DB 없이 인메모리로 근사).
+ * PostgreSQL은 UPDATE로 잡은 행 잠금을 문장이 끝나도 커밋까지 유지하므로 두 방식 모두 커밋 왕복까지 잠금을 쥠:
+ * locked: 기존 방식(SELECT ... FOR UPDATE, 엔티티 차감 flush, 커밋 -> 잠금을 쥔 채 왕복 3회),
+ * conditional: MembershipBalanceService.usePass (캐시 확인 후 조건부 UPDATE ... RETURNING, 커밋 -> 잠금을 쥔 채 왕복 2회),
+ * bookableCheck: 대기 등록/예약 전 확인(캐시 적중, 잠금 없음).
+ * 실제 예약 트랜잭션은 차감 뒤 예약 INSERT 등이 더 있어 잠금 유지 구간이 더 길고, 두 방식의 차이는 왕복 1회로 같음.
+ * roundTripTokens는 DB 왕복 한 번을 흉내 내는 CPU 소모량, members는 동시에 예약하는 회원 수.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class MembershipBalanceContentionBenchmark {
+
+    private static final long ORGANIZATION_ID = 1L;
+    private static final int REFILL = 1_000_000_000;
+
+    @Param({"1", "64"})
+    public int members;
+
+    @Param({"200"})
+    public long roundTripTokens;
+
+    private LocalDate expiryDate;
+    private AtomicIntegerArray remaining;
+    private AtomicLongArray versions;
+    private Object[] rowLocks;
+    private MembershipBalanceService balanceService;
+
+    @Setup
+    public void setUp() {
+        expiryDate = LocalDate.now().plusYears(1);
+        remaining = new AtomicIntegerArray(members);
+        versions = new AtomicLongArray(members);
+        rowLocks = new Object[members];
+        for (int i = 0; i < members; i++) {
+            remaining.set(i, REFILL);
+            rowLocks[i] = new Object();
+        }
+        balanceService = new MembershipBalanceService(
+                repository(), new ConditionalUpdateJdbcTemplate(), Clock.systemDefaultZone(), 10_000, Duration.ofMinutes(5));
+    }
+
+    private int nextMember() {
+        return ThreadLocalRandom.current().nextInt(members);
+    }
+
+    @Benchmark
+    public int locked() {
+        int member = nextMember();
+        synchronized (rowLocks[member]) {
+            Blackhole.consumeCPU(roundTripTokens); // SELECT ... FOR UPDATE
+            int left = remaining.get(member) - 1;
+            remaining.set(member, left > 0 ? left : REFILL);
+            versions.incrementAndGet(member);
+            Blackhole.consumeCPU(roundTripTokens); // UPDATE (flush)
+            Blackhole.consumeCPU(roundTripTokens); // COMMIT (잠금 해제)
+            return left;
+        }
+    }
+
+    @Benchmark
+    public MembershipBalance conditional() {
+        int member = nextMember();
+        // 조건부 UPDATE가 잡은 행 잠금은 커밋까지 유지: 잠금 획득 후 UPDATE ... RETURNING, 커밋 왕복 뒤 해제
+        synchronized (rowLocks[member]) {
+            MembershipBalance used = balanceService.usePass((long) member, ORGANIZATION_ID);
+            Blackhole.consumeCPU(roundTripTokens); // COMMIT (잠금 해제)
+            return used;
+        }
+    }
+
+    @Benchmark
+    public MembershipBalance bookableCheck() {
+        return balanceService.requireBookable((long) nextMember(), ORGANIZATION_ID);
+    }
+
+    private MembershipBalance snapshot(int member) {
+        return new MembershipBalance((long) member, remaining.get(member), expiryDate, versions.get(member));
+    }
+
+    // 캐시 미스 시 적재만 필요 (회원 ID를 회원권 ID로 사용)
+    private MembershipRepository repository() {
+        return (MembershipRepository) Proxy.newProxyInstance(
+                MembershipRepository.class.getClassLoader(),
+                new Class<?>[]{MembershipRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findActiveBalances" -> List.of(snapshot(((Long) args[0]).intValue()));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "MembershipRepositoryStub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // 조건부 UPDATE ... RETURNING 왕복 1회 (행 잠금은 호출하는 쪽이 커밋까지 쥠)
+    private class ConditionalUpdateJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            int member = ((Long) args[0]).intValue();
+            Blackhole.consumeCPU(roundTripTokens);
+            int delta = sql.contains("remaining_count - 1") ? -1 : 1;
+            int left = remaining.accumulateAndGet(member, delta, (current, d) -> current + d > 0 ? current + d : REFILL);
+            return (List<T>) List.of(new MembershipBalance((long) member, left, expiryDate, versions.incrementAndGet(member)));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 버퍼 적재 후 flush(500건 단위 배치 발송)까지의 푸시 처리량. FCM 호출은 즉시 성공하는 스텁으로 대체해 디스패처 비용만 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FcmBatchDispatcherBenchmark {
+
+    private static final int PUSHES = 10_000;
+
+    private FcmBatchDispatcher dispatcher;
+    private FcmPush[] pushes;
+
+    @Setup
+    public void setUp() {
+        // 모든 토큰이 성공하므로 만료 토큰 정리(UserRepository)는 호출되지 않음
+        FcmClient stubClient = batch -> batch.stream().map(push -> FcmSendResult.ok()).toList();
+        dispatcher = new FcmBatchDispatcher(stubClient, null, new SyncTaskExecutor(), PUSHES);
+        pushes = new FcmPush[PUSHES];
+        for (int i = 0; i < PUSHES; i++) {
+            pushes[i] = new FcmPush("token-" + i, "수업 취소", "오늘 수업이 취소되었습니다.");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PUSHES)
+    public void enqueueAndFlush() {
+        for (FcmPush push : pushes) {
+            dispatcher.enqueue(push);
+        }
+        dispatcher.flush();
+    }
+}
@@ -0,0 +1,64 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 replace(변수마다 전체 치환)와 컴파일된 템플릿 렌더링 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageTemplateEngineBenchmark {
+
+    private static final String TEMPLATE_ID = "enrollment-reminder";
+    private static final String TEMPLATE =
+            "[#{orgName}] #{memberName}님, #{date} #{time}에 예약하신 '#{scheduleTitle}' 수업이 곧 시작됩니다.\n"
+            + "담당 강사: #{instructorName} / 장소: #{location}\n"
+            + "잔여 횟수: #{remainingPasses}회 (만료일 #{expiresAt})\n"
+            + "예약 취소는 수업 시작 #{cancelCutoff}시간 전까지 가능합니다.";
+
+    private final Map<String, String> variables = Map.of(
+            "orgName", "넥서스 필라테스",
+            "memberName", "김회원",
+            "date", "2026-10-18",
+            "time", "19:30",
+            "scheduleTitle", "저녁 기구 필라테스",
+            "instructorName", "이강사",
+            "location", "강남점 2층 A룸",
+            "remainingPasses", "7",
+            "expiresAt", "2026-12-31",
+            "cancelCutoff", "3");
+
+    private MessageTemplateEngine engine;
+    private CompiledTemplate compiled;
+
+    @Setup
+    public void setUp() {
+        engine = new MessageTemplateEngine(256);
+        compiled = engine.register(TEMPLATE_ID, TEMPLATE, variables.keySet());
+    }
+
+    @Benchmark
+    public String replace() {
+        return engine.replace(TEMPLATE, variables);
+    }
+
+    @Benchmark
+    public String renderById() {
+        return engine.render(TEMPLATE_ID, TEMPLATE, variables);
+    }
+
+    @Benchmark
+    public String renderCompiled() {
+        return engine.render(compiled, variables);
+    }
+}
@@ -19,23 +19,55 @@ public enum ErrorCode {
     INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "SCH_002", "종료 시간이 시작 시간보다 빨라야 합니다."),
     SCHEDULE_FULL(HttpStatus.BAD_REQUEST, "SCH_003", "정원이 초과되어 예약할 수 없습니다."),
     ALREADY_ENROLLED(HttpStatus.BAD_REQUEST, "SCH_004", "이미 예약된 일정입니다."),
+    CALENDAR_RANGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "SCH_005", "캘린더 조회 기간은 최대 42일까지 가능합니다."),
+    INSTRUCTOR_SCHEDULE_CONFLICT(HttpStatus.CONFLICT, "SCH_006", "강사의 다른 일정과 시간이 겹칩니다."),
+    SERIES_NOT_FOUND(HttpStatus.NOT_FOUND, "SCH_007", "해당 반복 일정이 존재하지 않거나 권한이 없습니다."),
+    INVALID_RECURRENCE(HttpStatus.BAD_REQUEST, "SCH_008", "반복 규칙이 올바르지 않습니다."),
+    SERIES_TOO_LARGE(HttpStatus.BAD_REQUEST, "SCH_009", "반복 일정은 최대 10,000회까지 생성할 수 있습니다."),
+    SERIES_OCCURRENCE_ENROLLED(HttpStatus.CONFLICT, "SCH_010", "예약자 또는 대기자가 있는 회차는 반복 일정 수정으로 삭제할 수 없습니다."),
+    CAPACITY_BELOW_PARTICIPANTS(HttpStatus.BAD_REQUEST, "SCH_011", "정원은 현재 예약 인원보다 적을 수 없습니다."),
+    SEAT_FEED_FULL(HttpStatus.SERVICE_UNAVAILABLE, "SCH_012", "실시간 좌석 현황 연결이 많아 잠시 후 다시 시도해주세요."),
 
     // Organization
     ORGANIZATION_NOT_FOUND(HttpStatus.NOT_FOUND, "ORG_001", "조직 정보를 찾을 수 없습니다."),
+    INSTRUCTOR_NOT_FOUND(HttpStatus.NOT_FOUND, "ORG_002", "해당 조직의 강사를 찾을 수 없습니다."),
     ACCESS_DENIED_ORG(HttpStatus.FORBIDDEN, "AUTH_003", "해당 조직의 데이터에 접근 권한이 없습니다."),
     NOT_INSTRUCTOR(HttpStatus.FORBIDDEN, "AUTH_004", "강사 권한이 필요합니다."),
+    NOT_MANAGER(HttpStatus.FORBIDDEN, "AUTH_005", "센터 운영자 또는 관리자 권한이 필요합니다."),
+    NOT_ADMIN(HttpStatus.FORBIDDEN, "AUTH_006", "관리자 권한이 필요합니다."),
 
     // Enrollment / Membership
     ENROLLMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "ENR_001", "예약 내역을 찾을 수 없습니다."),
+    ENROLLMENT_CONFLICT(HttpStatus.CONFLICT, "ENR_002", "예약 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    ALREADY_WAITLISTED(HttpStatus.BAD_REQUEST, "ENR_003", "이미 예약 대기 중인 일정입니다."),
+    WAITLIST_NOT_FOUND(HttpStatus.NOT_FOUND, "ENR_004", "예약 대기 내역을 찾을 수 없습니다."),
+    CANCEL_WINDOW_CLOSED(HttpStatus.BAD_REQUEST, "ENR_005", "수업 시작이 임박해 예약을 취소할 수 없습니다."),
     MEMBERSHIP_NOT_FOUND(HttpStatus.NOT_FOUND, "MEM_001", "유효한 회원권을 찾을 수 없습니다."),
     INSUFFICIENT_PASSES(HttpStatus.BAD_REQUEST, "MEM_002", "잔여 횟수가 부족합니다."),
     MEMBERSHIP_EXPIRED(HttpStatus.BAD_REQUEST, "MEM_003", "만료된 회원권입니다."),
 
+    // Settlement
+    SETTLEMENT_IN_PROGRESS(HttpStatus.CONFLICT, "SET_001", "해당 월의 정산이 이미 진행 중입니다."),
+    SALARY_CONFIG_NOT_FOUND(HttpStatus.NOT_FOUND, "SET_002", "강사 급여 설정을 찾을 수 없습니다."),
+
+    // Statistics
+    INVALID_STATISTICS_RANGE(HttpStatus.BAD_REQUEST, "STAT_001", "통계 조회 기간이 올바르지 않습니다. (최대 60개월)"),
+
+    // Export
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "EXP_001", "지원하지 않는 내보내기 형식입니다. (csv, xlsx)"),
+    EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "EXP_002", "진행 중인 내보내기가 많아 잠시 후 다시 시도해주세요."),
+
     // Notification
     NOTIFICATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "NOTI_001", "알림 발송에 실패했습니다."),
+    TEMPLATE_INVALID(HttpStatus.INTERNAL_SERVER_ERROR, "NOTI_002", "알림 템플릿에 선언되지 않은 변수가 포함되어 있습니다."),
+    TEMPLATE_VARIABLE_MISSING(HttpStatus.INTERNAL_SERVER_ERROR, "NOTI_003", "알림 템플릿 변수 값이 누락되었습니다."),
+    TEMPLATE_NOT_REGISTERED(HttpStatus.INTERNAL_SERVER_ERROR, "NOTI_004", "등록되지 않은 알림 템플릿입니다."),
     
     // Global
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G001", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G001", "서버 내부 오류가 발생했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "G002", "잘못된 페이지 커서입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "G003", "다른 요청이 먼저 데이터를 변경했습니다. 새로고침 후 다시 시도해주세요."),
+    DUPLICATE_REQUEST(HttpStatus.CONFLICT, "G004", "이미 처리된 요청입니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,18 @@
+package org.schedule.schedulemanaging.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이지 응답.
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달해 조회 (마지막 페이지면 null).
+ */
+@Getter
+@AllArgsConstructor
+public class CursorResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
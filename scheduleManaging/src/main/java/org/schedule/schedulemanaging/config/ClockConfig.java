@@ -0,0 +1,21 @@
+package org.schedule.schedulemanaging.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 날짜/시각 판단(회원권 만료, 취소 마감 등)에 쓰는 단일 시계.
+ * spring.clock.zone을 지정하지 않으면 JVM 기본 타임존 사용 (기존 LocalDate.now() 동작과 동일).
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${spring.clock.zone:}") String zone) {
+        return zone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(zone));
+    }
+}
@@ -0,0 +1,34 @@
+package org.schedule.schedulemanaging.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시작 시각 사본(enrollment.schedule_start_time)이 없는 이전 예약을 기동 시 채움 (멱등).
+ * 회원 이력 키셋 조회는 이 컬럼으로 정렬하므로 비어 있는 예약은 이력에서 빠짐.
+ */
+@Slf4j
+@Component
+public class EnrollmentStartTimeBackfill implements SmartInitializingSingleton {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public EnrollmentStartTimeBackfill(EnrollmentRepository enrollmentRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer filled = transactionTemplate.execute(status -> enrollmentRepository.backfillScheduleStartTime());
+        if (filled != null && filled > 0) {
+            log.info("Backfilled schedule start time for {} enrollments", filled);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.schedule.schedulemanaging.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 알림 채널별 전용 실행기.
+ * - 블로킹 SMTP/HTTP 호출은 가상 스레드에서 실행
+ * - 채널별 동시 실행 수(concurrency)와 대기열 크기를 제한하고, 대기열 초과 시 설정된 정책으로 처리
+ * - 대기열 길이, 실행 중 작업 수, 거부(초과) 건수를 notification.executor.* 지표로 노출
+ */
+@Configuration
+public class NotificationExecutorConfig {
+
+    @Bean(name = "emailNotificationExecutor")
+    public ThreadPoolTaskExecutor emailNotificationExecutor(NotificationExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("email", properties.getEmail(), meterRegistry);
+    }
+
+    @Bean(name = "fcmNotificationExecutor")
+    public ThreadPoolTaskExecutor fcmNotificationExecutor(NotificationExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("fcm", properties.getFcm(), meterRegistry);
+    }
+
+    @Bean(name = "alimtalkNotificationExecutor")
+    public ThreadPoolTaskExecutor alimtalkNotificationExecutor(NotificationExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("alimtalk", properties.getAlimtalk(), meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String channel,
+                                                  NotificationExecutorProperties.Channel config,
+                                                  MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(config.getConcurrency());
+        executor.setMaxPoolSize(config.getConcurrency());
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.setThreadFactory(Thread.ofVirtual().name("noti-" + channel + "-", 0).factory());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        Counter rejected = meterRegistry.counter("notification.executor.rejected", "channel", channel);
+        RejectedExecutionHandler policy = switch (config.getOverflowPolicy()) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case REJECT -> new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            policy.rejectedExecution(task, pool);
+        });
+
+        Gauge.builder("notification.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("notification.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return executor;
+    }
+}
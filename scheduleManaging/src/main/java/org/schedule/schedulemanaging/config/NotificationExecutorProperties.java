@@ -0,0 +1,40 @@
+package org.schedule.schedulemanaging.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 알림 채널별 발송 실행기 설정.
+ * 채널마다 동시 발송 수와 대기열을 분리하여 느린 SMTP 서버가 FCM/알림톡 발송을 막지 않도록 함.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.notification.executor")
+public class NotificationExecutorProperties {
+
+    private Channel email = new Channel(4, 1000, OverflowPolicy.CALLER_RUNS);
+    private Channel fcm = new Channel(2, 100, OverflowPolicy.CALLER_RUNS);
+    private Channel alimtalk = new Channel(4, 1000, OverflowPolicy.CALLER_RUNS);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Channel {
+        private int concurrency;
+        private int queueCapacity;
+        private OverflowPolicy overflowPolicy;
+    }
+
+    public enum OverflowPolicy {
+        // 요청 스레드가 직접 실행 (발송 속도에 맞춰 요청 측을 늦추는 백프레셔)
+        CALLER_RUNS,
+        // TaskRejectedException 발생
+        REJECT,
+        // 가장 오래된 대기 작업을 버리고 새 작업 적재
+        DISCARD_OLDEST
+    }
+}
@@ -0,0 +1,46 @@
+package org.schedule.schedulemanaging.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * schedule_seq를 schedules의 최대 ID 이후로 맞추는 기동 단계 (멱등).
+ * IDENTITY에서 시퀀스로 전환한 기존 DB는 시퀀스가 1부터 시작해 INSERT가 기본키 충돌로 실패하므로,
+ * 웹 서버가 요청을 받기 전(싱글톤 초기화 직후, 스키마 갱신 이후)에 한 번 확인해 뒤처져 있을 때만 setval.
+ * pooled 최적화기는 nextval 값 N에 대해 (N - 49) ~ N을 할당하므로 last_value를 MAX(id)로 두면 다음 할당은 MAX(id) + 1부터 시작.
+ */
+@Slf4j
+@Component
+public class ScheduleSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final String SEQUENCE = "schedule_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 의존: ddl-auto로 시퀀스가 생성된 뒤 실행되도록 순서 보장
+    public ScheduleSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align();
+    }
+
+    /**
+     * 시퀀스가 MAX(id)보다 뒤처져 있으면 맞추고 true. 이미 앞서 있으면 아무것도 하지 않음.
+     */
+    public boolean align() {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM schedules", Long.class);
+        long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + SEQUENCE, Long.class);
+        if (lastValue >= maxId) {
+            return false;
+        }
+        jdbcTemplate.queryForObject("SELECT setval(?, ?)", Long.class, SEQUENCE, maxId);
+        log.warn("Aligned {} from {} to MAX(schedules.id) = {}", SEQUENCE, lastValue, maxId);
+        return true;
+    }
+}
@@ -2,7 +2,7 @@ package org.schedule.schedulemanaging.config;
 
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.security.JwtAuthenticationFilter;
-import org.schedule.schedulemanaging.security.JwtTokenProvider;
+import org.schedule.schedulemanaging.security.JwtAuthenticationCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -24,7 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     private final org.schedule.schedulemanaging.security.OAuth2SuccessHandler oAuth2SuccessHandler;
 
     @Bean
@@ -45,7 +45,7 @@ public class SecurityConfig {
             .oauth2Login(oauth2 -> oauth2
                 .successHandler(oAuth2SuccessHandler)
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticationCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,43 @@
+package org.schedule.schedulemanaging.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.response.ApiResponse;
+import org.schedule.schedulemanaging.dto.attendance.AttendanceBulkRequest;
+import org.schedule.schedulemanaging.dto.attendance.ParticipantResponse;
+import org.schedule.schedulemanaging.entity.Enrollment;
+import org.schedule.schedulemanaging.service.attendance.AttendanceService;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    @GetMapping("/schedules/{scheduleId}/participants")
+    public ApiResponse<List<ParticipantResponse>> getParticipants(Principal principal, @PathVariable Long scheduleId) {
+        return ApiResponse.success(attendanceService.getParticipants(principal.getName(), scheduleId));
+    }
+
+    // 수강생 한 명 출결 기록
+    @PatchMapping("/enrollments/{enrollmentId}")
+    public ApiResponse<Void> markAttendance(Principal principal,
+                                            @PathVariable Long enrollmentId,
+                                            @RequestParam Enrollment.AttendanceStatus status) {
+        attendanceService.markAttendance(principal.getName(), enrollmentId, status);
+        return ApiResponse.success(null);
+    }
+
+    // 일정 전체 출결 일괄 기록 (반영된 예약 수 반환)
+    @PutMapping("/schedules/{scheduleId}")
+    public ApiResponse<Integer> markAttendanceBulk(Principal principal,
+                                                   @PathVariable Long scheduleId,
+                                                   @Valid @RequestBody AttendanceBulkRequest request) {
+        return ApiResponse.success(attendanceService.markAttendanceBulk(principal.getName(), scheduleId, request));
+    }
+}
@@ -2,42 +2,33 @@ package org.schedule.schedulemanaging.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.common.response.ApiResponse;
-import org.schedule.schedulemanaging.dto.schedule.ScheduleResponse;
-import org.schedule.schedulemanaging.entity.User;
-import org.schedule.schedulemanaging.repository.UserRepository;
-import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.common.response.CursorResponse;
+import org.schedule.schedulemanaging.dto.detail.InstructorDetailResponse;
+import org.schedule.schedulemanaging.dto.detail.MemberScheduleHistoryResponse;
+import org.schedule.schedulemanaging.service.DetailService;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.security.Principal;
 
 @RestController
 @RequestMapping("/api/details")
 @RequiredArgsConstructor
 public class DetailController {
 
-    private final UserRepository userRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final DetailService detailService;
 
-    // 특정 멤버의 모든 수업 예약 내역 조회
+    // 특정 멤버의 수업 예약 내역 조회 (최근 일정부터 커서 페이지)
     @GetMapping("/member/{id}/schedules")
-    public ApiResponse<List<ScheduleResponse>> getMemberSchedules(@PathVariable Long id) {
-        return ApiResponse.success(
-            scheduleRepository.findAllByMemberId(id).stream()
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList())
-        );
+    public ApiResponse<CursorResponse<MemberScheduleHistoryResponse>> getMemberSchedules(Principal principal,
+                                                                                         @PathVariable Long id,
+                                                                                         @RequestParam(required = false) String cursor,
+                                                                                         @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(detailService.getMemberSchedules(principal.getName(), id, cursor, size));
     }
 
     // 특정 강사의 상세 정보 및 담당 멤버 수 조회
     @GetMapping("/instructor/{id}")
-    public ApiResponse<Object> getInstructorDetail(@PathVariable Long id) {
-        User instructor = userRepository.findById(id).orElseThrow();
-        long memberCount = userRepository.countByInstructorId(id);
-        
-        return ApiResponse.success(java.util.Map.of(
-            "instructor", instructor,
-            "memberCount", memberCount
-        ));
+    public ApiResponse<InstructorDetailResponse> getInstructorDetail(Principal principal, @PathVariable Long id) {
+        return ApiResponse.success(detailService.getInstructorDetail(principal.getName(), id));
     }
 }
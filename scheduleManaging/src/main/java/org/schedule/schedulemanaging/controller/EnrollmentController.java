@@ -0,0 +1,37 @@
+package org.schedule.schedulemanaging.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.response.ApiResponse;
+import org.schedule.schedulemanaging.dto.enrollment.EnrollmentResponse;
+import org.schedule.schedulemanaging.service.enrollment.EnrollmentService;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/enrollments")
+@RequiredArgsConstructor
+public class EnrollmentController {
+
+    private final EnrollmentService enrollmentService;
+
+    // 수강 예약 (정원이 찼으면 대기열에 등록되고 WAITLISTED 반환)
+    @PostMapping("/{scheduleId}")
+    public ApiResponse<EnrollmentResponse> enroll(Principal principal, @PathVariable Long scheduleId) {
+        return ApiResponse.success(enrollmentService.enroll(principal.getName(), scheduleId));
+    }
+
+    // 수강 예약 취소 (수업 시작 cancel-cutoff 이전까지, 회원권 1회 반환)
+    @DeleteMapping("/{scheduleId}")
+    public ApiResponse<Void> cancel(Principal principal, @PathVariable Long scheduleId) {
+        enrollmentService.cancel(principal.getName(), scheduleId);
+        return ApiResponse.success(null);
+    }
+
+    // 예약 대기 취소
+    @DeleteMapping("/{scheduleId}/waitlist")
+    public ApiResponse<Void> leaveWaitlist(Principal principal, @PathVariable Long scheduleId) {
+        enrollmentService.leaveWaitlist(principal.getName(), scheduleId);
+        return ApiResponse.success(null);
+    }
+}
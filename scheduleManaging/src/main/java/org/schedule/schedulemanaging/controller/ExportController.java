@@ -0,0 +1,52 @@
+package org.schedule.schedulemanaging.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.service.export.ExportFormat;
+import org.schedule.schedulemanaging.service.export.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.security.Principal;
+
+/**
+ * 회계용 연간 내보내기 (CSV/XLSX 스트리밍 다운로드).
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/settlements/{year}")
+    public ResponseEntity<StreamingResponseBody> exportSettlements(Principal principal,
+                                                                   @PathVariable int year,
+                                                                   @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return attachment("settlements-" + year, exportFormat,
+                exportService.exportSettlements(principal.getName(), year, exportFormat));
+    }
+
+    @GetMapping("/purchases/{year}")
+    public ResponseEntity<StreamingResponseBody> exportPurchases(Principal principal,
+                                                                 @PathVariable int year,
+                                                                 @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return attachment("purchases-" + year, exportFormat,
+                exportService.exportPurchases(principal.getName(), year, exportFormat));
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String fileName, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+}
@@ -5,9 +5,13 @@ import org.schedule.schedulemanaging.common.response.ApiResponse;
 import org.schedule.schedulemanaging.dto.instructor.InstructorRequest;
 import org.schedule.schedulemanaging.dto.instructor.InstructorResponse;
 import org.schedule.schedulemanaging.service.InstructorService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.security.Principal;
 
 @RestController
 @RequestMapping("/api/instructors")
@@ -17,12 +21,13 @@ public class InstructorController {
     private final InstructorService instructorService;
 
     @GetMapping
-    public ApiResponse<List<InstructorResponse>> getAllInstructors() {
-        return ApiResponse.success(instructorService.getAllInstructors());
+    public ApiResponse<Page<InstructorResponse>> getInstructors(Principal principal,
+                                                                @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ApiResponse.success(instructorService.getInstructors(principal.getName(), pageable));
     }
 
     @PostMapping
-    public ApiResponse<InstructorResponse> createInstructor(@RequestBody InstructorRequest request) {
-        return ApiResponse.success(instructorService.createInstructor(request));
+    public ApiResponse<InstructorResponse> createInstructor(Principal principal, @RequestBody InstructorRequest request) {
+        return ApiResponse.success(instructorService.createInstructor(principal.getName(), request));
     }
 }
@@ -2,12 +2,13 @@ package org.schedule.schedulemanaging.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.common.response.ApiResponse;
+import org.schedule.schedulemanaging.common.response.CursorResponse;
 import org.schedule.schedulemanaging.dto.member.MemberRequest;
 import org.schedule.schedulemanaging.dto.member.MemberResponse;
 import org.schedule.schedulemanaging.service.MemberService;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.security.Principal;
 
 @RestController
 @RequestMapping("/api/members")
@@ -17,12 +18,15 @@ public class MemberController {
     private final MemberService memberService;
 
     @GetMapping
-    public ApiResponse<List<MemberResponse>> getAllMembers() {
-        return ApiResponse.success(memberService.getAllMembers());
+    public ApiResponse<CursorResponse<MemberResponse>> getMembers(Principal principal,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) String keyword,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(memberService.getMembers(principal.getName(), cursor, keyword, size));
     }
 
     @PostMapping
-    public ApiResponse<MemberResponse> createMember(@RequestBody MemberRequest request) {
-        return ApiResponse.success(memberService.createMember(request));
+    public ApiResponse<MemberResponse> createMember(Principal principal, @RequestBody MemberRequest request) {
+        return ApiResponse.success(memberService.createMember(principal.getName(), request));
     }
 }
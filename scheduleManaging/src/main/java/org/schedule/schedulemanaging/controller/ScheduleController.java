@@ -3,17 +3,28 @@ package org.schedule.schedulemanaging.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.common.response.ApiResponse;
+import org.schedule.schedulemanaging.dto.schedule.CalendarScheduleResponse;
 import org.schedule.schedulemanaging.dto.schedule.ScheduleRequest;
 import org.schedule.schedulemanaging.dto.schedule.ScheduleResponse;
+import org.schedule.schedulemanaging.dto.schedule.TimeSlotResponse;
 import org.schedule.schedulemanaging.service.ScheduleService;
+import org.schedule.schedulemanaging.service.schedule.SeatAvailabilityFeed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 일정 관리 REST 컨트롤러.
@@ -24,6 +35,7 @@ import java.security.Principal;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final SeatAvailabilityFeed seatFeed;
 
     @PostMapping
     public ResponseEntity<ApiResponse<Long>> createSchedule(Principal principal, @Valid @RequestBody ScheduleRequest request) {
@@ -37,6 +49,49 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(scheduleService.getSchedules(principal.getName(), pageable)));
     }
 
+    /**
+     * 조직 일정의 실시간 좌석 현황 (SSE). 좌석 수가 바뀐 일정만 "seats" 이벤트로 전송.
+     */
+    @GetMapping(value = "/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSeats(Principal principal) {
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // 리버스 프록시 응답 버퍼링 해제
+                .body(seatFeed.subscribe(principal.getName()));
+    }
+
+    /**
+     * 캘린더 범위 조회. 변경이 없으면 If-None-Match에 대해 304 반환 (본문 조회 생략).
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<List<CalendarScheduleResponse>>> getCalendar(
+            Principal principal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            WebRequest webRequest) {
+        String etag = scheduleService.getCalendarEtag(principal.getName(), from, to);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(scheduleService.getCalendar(principal.getName(), from, to)));
+    }
+
+    /**
+     * 강사의 빈 시간대 조회 (minMinutes 이상인 구간만).
+     */
+    @GetMapping("/free-slots")
+    public ResponseEntity<ApiResponse<List<TimeSlotResponse>>> getFreeSlots(
+            Principal principal,
+            @RequestParam Long instructorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "30") int minMinutes) {
+        return ResponseEntity.ok(ApiResponse.success(
+                scheduleService.getFreeSlots(principal.getName(), instructorId, from, to, Duration.ofMinutes(minMinutes))));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ScheduleResponse>> getSchedule(Principal principal, @PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.success(scheduleService.getSchedule(principal.getName(), id)));
@@ -0,0 +1,39 @@
+package org.schedule.schedulemanaging.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.response.ApiResponse;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleSeriesRequest;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleSeriesResponse;
+import org.schedule.schedulemanaging.service.schedule.ScheduleSeriesService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+/**
+ * 반복 일정(시리즈) REST 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/schedule-series")
+@RequiredArgsConstructor
+public class ScheduleSeriesController {
+
+    private final ScheduleSeriesService scheduleSeriesService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ScheduleSeriesResponse>> createSeries(Principal principal,
+                                                                           @Valid @RequestBody ScheduleSeriesRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(scheduleSeriesService.createSeries(principal.getName(), request)));
+    }
+
+    // 현재 이후 회차만 다시 작성
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<ScheduleSeriesResponse>> updateSeries(Principal principal,
+                                                                           @PathVariable Long id,
+                                                                           @Valid @RequestBody ScheduleSeriesRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(scheduleSeriesService.updateSeries(principal.getName(), id, request)));
+    }
+}
@@ -3,9 +3,12 @@ package org.schedule.schedulemanaging.controller;
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.common.response.ApiResponse;
 import org.schedule.schedulemanaging.dto.settlement.SettlementResponse;
+import org.schedule.schedulemanaging.dto.settlement.SettlementRunResponse;
 import org.schedule.schedulemanaging.service.PayrollSettlementService;
+import org.schedule.schedulemanaging.service.settlement.SettlementRunService;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -14,6 +17,7 @@ import java.util.List;
 public class SettlementController {
 
     private final PayrollSettlementService payrollSettlementService;
+    private final SettlementRunService settlementRunService;
 
     @GetMapping("/{year}/{month}")
     public ApiResponse<List<SettlementResponse>> getMonthlySettlements(
@@ -21,4 +25,13 @@ public class SettlementController {
             @PathVariable int month) {
         return ApiResponse.success(payrollSettlementService.getMonthlySettlements(year, month));
     }
+
+    // 전체 강사 월말 정산 배치 실행 (관리자 전용, 중단된 실행이 있으면 체크포인트부터 재개)
+    @PostMapping("/runs/{year}/{month}")
+    public ApiResponse<SettlementRunResponse> runMonthlySettlement(
+            Principal principal,
+            @PathVariable int year,
+            @PathVariable int month) {
+        return ApiResponse.success(settlementRunService.runMonthlySettlement(principal.getName(), year, month));
+    }
 }
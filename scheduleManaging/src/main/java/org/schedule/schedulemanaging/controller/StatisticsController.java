@@ -0,0 +1,50 @@
+package org.schedule.schedulemanaging.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.response.ApiResponse;
+import org.schedule.schedulemanaging.dto.statistics.ProductRevenue;
+import org.schedule.schedulemanaging.dto.statistics.RevenueSeriesResponse;
+import org.schedule.schedulemanaging.service.statistics.StatisticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    @GetMapping("/revenue/monthly")
+    public ApiResponse<RevenueSeriesResponse> getMonthlyRevenue(Principal principal,
+                                                                @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                                @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ApiResponse.success(statisticsService.getMonthlySeries(principal.getName(), from, to));
+    }
+
+    @GetMapping("/revenue/yearly")
+    public ApiResponse<RevenueSeriesResponse> getYearlyRevenue(Principal principal,
+                                                               @RequestParam int from,
+                                                               @RequestParam int to) {
+        return ApiResponse.success(statisticsService.getYearlySeries(principal.getName(), from, to));
+    }
+
+    @GetMapping("/revenue/products")
+    public ApiResponse<List<ProductRevenue>> getProductRevenue(Principal principal,
+                                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ApiResponse.success(statisticsService.getProductRevenue(principal.getName(), from, to));
+    }
+
+    @PostMapping("/revenue/rollups/rebuild")
+    public ApiResponse<Integer> rebuildRollups(Principal principal,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ApiResponse.success(statisticsService.rebuildRollups(principal.getName(), from, to));
+    }
+}
@@ -0,0 +1,36 @@
+package org.schedule.schedulemanaging.dto.attendance;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.schedule.schedulemanaging.entity.Enrollment;
+
+import java.util.List;
+
+/**
+ * 한 일정의 출결 일괄 처리 요청 DTO. (수업 종료 후 강사가 전체 수강생 출결을 한 번에 기록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceBulkRequest {
+
+    @Valid
+    @NotEmpty(message = "출결 항목은 최소 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "출결 항목은 한 번에 최대 500개까지 가능합니다.")
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @NotNull(message = "예약 ID는 필수입니다.")
+        private Long enrollmentId;
+
+        @NotNull(message = "출결 상태는 필수입니다.")
+        private Enrollment.AttendanceStatus status;
+    }
+}
@@ -5,21 +5,27 @@ import lombok.Builder;
 import lombok.Getter;
 import org.schedule.schedulemanaging.entity.Enrollment;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 @AllArgsConstructor
 public class ParticipantResponse {
     private Long enrollmentId;
+    private Long memberId;
     private String memberName;
     private String memberEmail;
     private Enrollment.AttendanceStatus status;
+    private LocalDateTime enrolledAt;
 
     public static ParticipantResponse from(Enrollment enrollment) {
         return ParticipantResponse.builder()
                 .enrollmentId(enrollment.getId())
+                .memberId(enrollment.getMember().getId())
                 .memberName(enrollment.getMember().getName())
                 .memberEmail(enrollment.getMember().getEmail())
                 .status(enrollment.getAttendanceStatus())
+                .enrolledAt(enrollment.getEnrolledAt())
                 .build();
     }
 }
@@ -0,0 +1,17 @@
+package org.schedule.schedulemanaging.dto.detail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강사 상세 (담당 수업 수, 담당 회원 수는 중복 제외).
+ */
+@Getter
+@AllArgsConstructor
+public class InstructorDetailResponse {
+    private Long id;
+    private String name;
+    private String email;
+    private long scheduleCount;
+    private long memberCount;
+}
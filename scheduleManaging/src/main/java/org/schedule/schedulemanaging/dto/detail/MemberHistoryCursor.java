@@ -0,0 +1,36 @@
+package org.schedule.schedulemanaging.dto.detail;
+
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 회원 예약 이력 커서. 마지막으로 내려간 행의 (일정 시작 시각, 일정 ID)를 불투명 문자열로 인코딩.
+ */
+public record MemberHistoryCursor(LocalDateTime startTime, Long scheduleId) {
+
+    private static final char SEPARATOR = '\n';
+
+    // 첫 페이지: 모든 행보다 뒤 (최근 일정부터 내려감)
+    public static final MemberHistoryCursor FIRST = new MemberHistoryCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startTime.toString() + SEPARATOR + scheduleId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new MemberHistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.schedule.schedulemanaging.dto.detail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.schedule.schedulemanaging.entity.Enrollment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 수업 예약 이력 한 건 (일정 + 담당 강사 + 출결).
+ */
+@Getter
+@AllArgsConstructor
+public class MemberScheduleHistoryResponse {
+    private Long scheduleId;
+    private String title;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long instructorId;
+    private String instructorName;
+    private Enrollment.AttendanceStatus attendanceStatus;
+    private LocalDateTime enrolledAt;
+}
@@ -0,0 +1,27 @@
+package org.schedule.schedulemanaging.dto.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약 요청 결과. 정원이 찼으면 WAITLISTED와 대기 순번을 반환.
+ */
+@Getter
+@AllArgsConstructor
+public class EnrollmentResponse {
+    private Long scheduleId;
+    private Status status;
+    private Integer waitlistPosition;
+
+    public enum Status {
+        ENROLLED, WAITLISTED
+    }
+
+    public static EnrollmentResponse enrolled(Long scheduleId) {
+        return new EnrollmentResponse(scheduleId, Status.ENROLLED, null);
+    }
+
+    public static EnrollmentResponse waitlisted(Long scheduleId, int position) {
+        return new EnrollmentResponse(scheduleId, Status.WAITLISTED, position);
+    }
+}
@@ -1,11 +1,13 @@
 package org.schedule.schedulemanaging.dto.instructor;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import java.math.BigDecimal;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class InstructorResponse {
     private Long id;
     private String name;
@@ -13,4 +15,14 @@ public class InstructorResponse {
     private String color;
     private BigDecimal basic_pay;
     private BigDecimal rate;
+
+    // JPQL 생성자 프로젝션용 (급여 설정이 없는 강사는 0으로 표시)
+    public InstructorResponse(Long id, String name, BigDecimal basicPay, BigDecimal rate) {
+        this.id = id;
+        this.name = name;
+        this.phone = "010-0000-0000"; // User 엔티티에 phone 필드가 없으므로 임시 처리
+        this.color = "#6366f1";
+        this.basic_pay = basicPay != null ? basicPay : BigDecimal.ZERO;
+        this.rate = rate != null ? rate : BigDecimal.ZERO;
+    }
 }
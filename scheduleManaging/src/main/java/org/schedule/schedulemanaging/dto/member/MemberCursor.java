@@ -0,0 +1,30 @@
+package org.schedule.schedulemanaging.dto.member;
+
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 회원 목록 커서. 마지막으로 내려간 행의 (name, id)를 불투명 문자열로 인코딩.
+ */
+public record MemberCursor(String name, Long id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((name + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new MemberCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package org.schedule.schedulemanaging.dto.member;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class MemberResponse {
     private Long id;
     private String name;
     private String phone;
+
+    // JPQL 생성자 프로젝션용
+    public MemberResponse(Long id, String name) {
+        this.id = id;
+        this.name = name;
+        this.phone = "010-0000-0000"; // User 엔티티에 phone 필드가 없으므로 임시 처리
+    }
 }
@@ -0,0 +1,13 @@
+package org.schedule.schedulemanaging.dto.membership;
+
+import java.time.LocalDate;
+
+/**
+ * 회원권 잔여 횟수 스냅샷 (예약 가능 여부 캐시 값). version은 늦게 도착한 이전 값이 캐시를 덮어쓰지 않도록 비교용.
+ */
+public record MembershipBalance(Long membershipId, int remainingCount, LocalDate expiryDate, long version) {
+
+    public boolean isExpired(LocalDate today) {
+        return expiryDate.isBefore(today);
+    }
+}
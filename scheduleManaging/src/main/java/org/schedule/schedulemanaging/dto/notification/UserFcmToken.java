@@ -0,0 +1,11 @@
+package org.schedule.schedulemanaging.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserFcmToken {
+    private Long userId;
+    private String fcmToken;
+}
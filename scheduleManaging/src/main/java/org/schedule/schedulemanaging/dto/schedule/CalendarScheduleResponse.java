@@ -0,0 +1,22 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더(주/월 보기)용 일정 요약 DTO. JPQL 생성자 프로젝션으로 직접 조회.
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarScheduleResponse {
+    private Long id;
+    private String title;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long instructorId;
+    private String instructorName;
+    private int maxCapacity;
+    private int currentParticipants;
+}
@@ -0,0 +1,15 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 범위의 변경 감지용 요약값.
+ * 건수(추가/삭제), 최종 수정 시각(일정 수정), 버전 합계(예약 등 일괄 UPDATE로 인한 좌석 변경)를 조합해 ETag 생성.
+ */
+public record CalendarVersion(Long count, LocalDateTime lastUpdatedAt, Long versionSum) {
+
+    public String toEtag() {
+        return "\"cal-" + count + "-" + (lastUpdatedAt != null ? lastUpdatedAt.toString() : "0") + "-"
+                + (versionSum != null ? versionSum : 0) + "\"";
+    }
+}
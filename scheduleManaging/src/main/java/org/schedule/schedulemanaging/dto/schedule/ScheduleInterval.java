@@ -0,0 +1,9 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강사 일정 구간 (중복 배정 검사 인덱스 적재용 프로젝션).
+ */
+public record ScheduleInterval(Long scheduleId, Long instructorId, LocalDateTime startTime, LocalDateTime endTime) {
+}
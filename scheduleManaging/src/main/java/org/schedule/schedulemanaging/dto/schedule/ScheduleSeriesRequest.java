@@ -0,0 +1,58 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * 반복 일정 생성/수정 요청 DTO. (매주 지정 요일, 종료일까지, 제외일 지정 가능)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleSeriesRequest {
+
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(max = 100, message = "제목은 최대 100자까지 가능합니다.")
+    private String title;
+
+    private String content;
+
+    @NotNull(message = "최대 정원은 필수입니다.")
+    @Min(value = 1, message = "정원은 최소 1명 이상이어야 합니다.")
+    private Integer maxCapacity;
+
+    @NotNull(message = "시작일은 필수입니다.")
+    private LocalDate startDate;
+
+    @NotNull(message = "종료일은 필수입니다.")
+    private LocalDate untilDate;
+
+    @NotNull(message = "수업 시작 시각은 필수입니다.")
+    private LocalTime startTime;
+
+    @NotNull(message = "수업 종료 시각은 필수입니다.")
+    private LocalTime endTime;
+
+    @NotEmpty(message = "반복 요일은 최소 1개 이상이어야 합니다.")
+    private Set<DayOfWeek> daysOfWeek;
+
+    private Set<LocalDate> exceptionDates;
+
+    /**
+     * 비즈니스 유효성 검증: 수업 시작 시각이 종료 시각보다 빠르고, 종료일이 시작일 이후여야 함.
+     */
+    public boolean isValidTime() {
+        return startTime != null && endTime != null && startTime.isBefore(endTime)
+                && startDate != null && untilDate != null && !untilDate.isBefore(startDate);
+    }
+}
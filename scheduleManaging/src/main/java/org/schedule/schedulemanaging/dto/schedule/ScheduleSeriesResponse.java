@@ -0,0 +1,16 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 반복 일정 생성/수정 결과. (수정 시 현재 이후 회차만 다시 작성)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleSeriesResponse {
+    private Long seriesId;
+    private int created;
+    private int updated;
+    private int deleted;
+}
@@ -0,0 +1,7 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+/**
+ * 실시간 좌석 피드용 일정별 좌석 현황.
+ */
+public record SeatCount(Long scheduleId, Long organizationId, int currentParticipants, int maxCapacity) {
+}
@@ -0,0 +1,16 @@
+package org.schedule.schedulemanaging.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강사의 비어 있는 시간대.
+ */
+@Getter
+@AllArgsConstructor
+public class TimeSlotResponse {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
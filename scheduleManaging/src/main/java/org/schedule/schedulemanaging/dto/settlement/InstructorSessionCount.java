@@ -0,0 +1,14 @@
+package org.schedule.schedulemanaging.dto.settlement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강사별 기간 내 수업 횟수 집계 결과. (JPQL 생성자 프로젝션용)
+ */
+@Getter
+@AllArgsConstructor
+public class InstructorSessionCount {
+    private Long instructorId;
+    private Long sessionCount;
+}
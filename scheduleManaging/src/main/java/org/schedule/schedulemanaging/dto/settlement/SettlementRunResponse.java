@@ -0,0 +1,17 @@
+package org.schedule.schedulemanaging.dto.settlement;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.schedule.schedulemanaging.entity.SettlementRun;
+
+@Getter
+@Builder
+public class SettlementRunResponse {
+    private String month;
+    private SettlementRun.Status status;
+    private long processedCount;
+    private long skippedCount;
+    private long failedChunkCount;
+    private long elapsedMillis;
+    private double instructorsPerSecond;
+}
@@ -0,0 +1,15 @@
+package org.schedule.schedulemanaging.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기간 내 상품별 매출.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductRevenue {
+    private String productName;
+    private Long revenue;
+    private Long purchaseCount;
+}
@@ -0,0 +1,7 @@
+package org.schedule.schedulemanaging.dto.statistics;
+
+/**
+ * 롤업 집계 쿼리 결과 (연/월 단위 합계, 연도별 조회 시 month는 0).
+ */
+public record RevenueBucket(Integer year, Integer month, Long revenue, Long purchaseCount) {
+}
@@ -0,0 +1,15 @@
+package org.schedule.schedulemanaging.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매출 시계열의 한 구간 (period: 월별 "2026-10", 연도별 "2026").
+ */
+@Getter
+@AllArgsConstructor
+public class RevenuePoint {
+    private String period;
+    private long revenue;
+    private long purchaseCount;
+}
@@ -0,0 +1,17 @@
+package org.schedule.schedulemanaging.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 매출 시계열 응답. 매출이 없는 구간도 0으로 채워 연속된 시계열로 반환.
+ */
+@Getter
+@AllArgsConstructor
+public class RevenueSeriesResponse {
+    private Long organizationId;
+    private List<RevenuePoint> points;
+    private long totalRevenue;
+}
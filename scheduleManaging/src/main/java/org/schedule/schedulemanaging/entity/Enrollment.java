@@ -7,6 +7,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(uniqueConstraints = {
     @UniqueConstraint(name = "uk_schedule_member", columnNames = {"schedule_id", "member_id"})
+}, indexes = {
+    @Index(name = "idx_enrollment_member_start", columnList = "member_id, scheduleStartTime, schedule_id") // 회원별 예약 이력 키셋 페이지용
 })
 @Getter
 @Builder
@@ -25,8 +27,17 @@ public class Enrollment {
     @JoinColumn(name = "member_id")
     private User member;
 
+    // 차감한 회원권 (취소 시 같은 회원권으로 반환, 이전 예약은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "membership_id")
+    private Membership membership;
+
     private LocalDateTime enrolledAt;
 
+    // 일정 시작 시각 사본: 회원별 이력을 (시작 시각, 일정 ID) 순서로 인덱스만 읽어 페이지 조회하기 위함.
+    // 일정 시간이 바뀌면 EnrollmentRepository.syncScheduleStartTime으로 함께 갱신
+    private LocalDateTime scheduleStartTime;
+
     @Enumerated(EnumType.STRING)
     private AttendanceStatus attendanceStatus;
 
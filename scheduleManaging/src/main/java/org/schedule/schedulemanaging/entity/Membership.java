@@ -4,12 +4,14 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.schedule.schedulemanaging.common.exception.BaseException;
 import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.service.membership.MembershipBalanceInvalidationListener;
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "memberships", indexes = {
     @Index(name = "idx_membership_user_org_expiry", columnList = "user_id, organization_id, expiryDate")
 })
+@EntityListeners(MembershipBalanceInvalidationListener.class)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,8 +33,14 @@ public class Membership {
     private int remainingCount;
     private LocalDate expiryDate;
 
-    public void usePass() {
-        if (this.expiryDate.isBefore(LocalDate.now())) {
+    // 낙관적 잠금 버전 (기존 행은 0으로 채워지도록 기본값 지정)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // today는 주입된 Clock 기준 날짜 (DB 조회 조건과 같은 기준을 쓰도록 호출자가 전달)
+    public void usePass(LocalDate today) {
+        if (this.expiryDate.isBefore(today)) {
             throw new BaseException(ErrorCode.MEMBERSHIP_EXPIRED);
         }
         if (this.remainingCount <= 0) {
@@ -40,4 +48,11 @@ public class Membership {
         }
         this.remainingCount--;
     }
+
+    // 예약 취소 시 차감했던 1회 반환 (총 횟수를 넘지 않음)
+    public void refundPass() {
+        if (this.remainingCount < this.totalCount) {
+            this.remainingCount++;
+        }
+    }
 }
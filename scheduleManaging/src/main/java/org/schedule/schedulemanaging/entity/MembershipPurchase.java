@@ -2,12 +2,14 @@ package org.schedule.schedulemanaging.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.schedule.schedulemanaging.service.statistics.RevenueRollupListener;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "membership_purchases", indexes = {
     @Index(name = "idx_purchase_org_date", columnList = "organization_id, purchasedAt")
 })
+@EntityListeners(RevenueRollupListener.class)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,41 @@
+package org.schedule.schedulemanaging.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 조직 x 일자 x 상품별 매출 집계 (대시보드 조회용).
+ * MembershipPurchase 저장 시 RevenueRollupService가 증분 반영하고, 재구성 작업으로 원본과 다시 맞춤.
+ */
+@Entity
+@Table(name = "revenue_daily_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_revenue_rollup_org_date_product", columnNames = {"organization_id", "rollup_date", "product_name"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RevenueDailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @Column(nullable = false)
+    private LocalDate rollupDate;
+
+    // 상품명이 없는 구매는 빈 문자열로 집계 (유니크 제약에 NULL이 포함되지 않도록)
+    @Column(nullable = false)
+    private String productName;
+
+    private long revenue;
+    private long purchaseCount;
+
+    private LocalDateTime updatedAt;
+}
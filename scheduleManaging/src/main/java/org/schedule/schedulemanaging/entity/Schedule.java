@@ -2,6 +2,7 @@ package org.schedule.schedulemanaging.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.schedule.schedulemanaging.common.exception.BaseException;
 import org.schedule.schedulemanaging.common.exception.ErrorCode;
 
@@ -14,15 +15,21 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "schedules", indexes = {
     @Index(name = "idx_schedule_org_time", columnList = "organization_id, startTime, endTime"),
-    @Index(name = "idx_schedule_instructor", columnList = "instructor_id")
+    @Index(name = "idx_schedule_instructor", columnList = "instructor_id"),
+    @Index(name = "idx_schedule_start_instructor", columnList = "startTime, instructor_id"), // 월별 강사 수업 횟수 집계(Index Only Scan)용
+    @Index(name = "idx_schedule_series_start", columnList = "series_id, startTime") // 반복 일정 이후 회차 조회용
 })
+@DynamicUpdate // 변경된 컬럼만 UPDATE (제목 수정이 좌석 수 컬럼을 덮어쓰지 않도록)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Schedule {
+    // IDENTITY는 INSERT마다 키를 받아와야 해 JDBC 배치가 꺼지므로 시퀀스(50개 단위 선할당) 사용.
+    // 기존 IDENTITY 테이블에서 전환한 DB는 기동 시 ScheduleSequenceInitializer가 시퀀스를 최대 ID 이후로 맞춤.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -45,9 +52,19 @@ public class Schedule {
     @JoinColumn(name = "organization_id")
     private Organization organization;
 
+    // 반복 일정으로 생성된 회차면 소속 시리즈 (단건 일정은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private ScheduleSeries series;
+
     private int maxCapacity;
     private int currentParticipants;
 
+    // 낙관적 잠금 버전 (기존 행은 0으로 채워지도록 기본값 지정)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -62,10 +79,30 @@ public class Schedule {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 일정 내용 수정. 변경 감지로 반영되며 @Version 검사로 동시 수정(예약 포함)과 충돌하면 커밋 시 실패.
+     */
+    public void update(String title, String content, int maxCapacity, LocalDateTime startTime, LocalDateTime endTime) {
+        if (maxCapacity < this.currentParticipants) {
+            throw new BaseException(ErrorCode.CAPACITY_BELOW_PARTICIPANTS);
+        }
+        this.title = title;
+        this.content = content;
+        this.maxCapacity = maxCapacity;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
     public void addParticipant() {
         if (this.currentParticipants >= this.maxCapacity) {
             throw new BaseException(ErrorCode.SCHEDULE_FULL);
         }
         this.currentParticipants++;
     }
+
+    public void removeParticipant() {
+        if (this.currentParticipants > 0) {
+            this.currentParticipants--;
+        }
+    }
 }
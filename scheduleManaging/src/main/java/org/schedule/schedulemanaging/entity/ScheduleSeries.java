@@ -0,0 +1,96 @@
+package org.schedule.schedulemanaging.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 일정(시리즈). 반복 규칙으로 펼쳐진 각 회차는 Schedule 행으로 저장되고 series로 연결됨.
+ */
+@Entity
+@Table(name = "schedule_series")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ScheduleSeries {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    private int maxCapacity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "instructor_id", nullable = false)
+    private User instructor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id")
+    private Organization organization;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    // RRULE 형식 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231)
+    @Column(nullable = false)
+    private String recurrenceRule;
+
+    // 제외일 목록 (yyyy-MM-dd, 쉼표 구분)
+    @Column(columnDefinition = "TEXT")
+    private String exceptionDates;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Set<LocalDate> getExceptionDateSet() {
+        if (exceptionDates == null || exceptionDates.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(exceptionDates.split(",")).map(LocalDate::parse).collect(Collectors.toSet());
+    }
+
+    public void update(String title, String content, int maxCapacity, LocalDate startDate,
+                       LocalTime startTime, LocalTime endTime, String recurrenceRule, Set<LocalDate> exceptionDates) {
+        this.title = title;
+        this.content = content;
+        this.maxCapacity = maxCapacity;
+        this.startDate = startDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.recurrenceRule = recurrenceRule;
+        this.exceptionDates = joinDates(exceptionDates);
+    }
+
+    public static String joinDates(Set<LocalDate> dates) {
+        return dates == null ? null : dates.stream().sorted().map(LocalDate::toString).collect(Collectors.joining(","));
+    }
+}
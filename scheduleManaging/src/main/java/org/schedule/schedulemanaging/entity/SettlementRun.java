@@ -0,0 +1,53 @@
+package org.schedule.schedulemanaging.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월말 정산 배치 실행 이력 및 체크포인트.
+ * 청크 단위 커밋마다 진행 건수를 함께 갱신하여, 중단된 실행을 이어서 처리할 수 있도록 함.
+ */
+@Entity
+@Table(name = "settlement_runs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_settlement_run_month", columnNames = {"settlementMonth"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class SettlementRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String settlementMonth;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private long processedCount;
+    private long skippedCount;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime checkpointAt;
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    public void resume() {
+        this.status = Status.RUNNING;
+        this.skippedCount = 0; // 건너뛴 강사는 매 실행마다 다시 조회되므로 재집계
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public void finish(boolean success) {
+        this.status = success ? Status.COMPLETED : Status.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
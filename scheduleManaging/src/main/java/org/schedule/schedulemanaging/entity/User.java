@@ -2,6 +2,7 @@ package org.schedule.schedulemanaging.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.schedule.schedulemanaging.security.UserIdentityInvalidationListener;
 import java.time.LocalDateTime;
 
 /**
@@ -9,8 +10,11 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_user_organization", columnList = "organization_id")
+    @Index(name = "idx_user_organization", columnList = "organization_id"),
+    @Index(name = "idx_user_org_role_name", columnList = "organization_id, role, name, id"), // 회원 목록 키셋 페이지/이름 접두어 검색용
+    @Index(name = "idx_user_fcm_token", columnList = "fcmToken") // 만료 토큰 일괄 제거용
 })
+@EntityListeners(UserIdentityInvalidationListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,39 @@
+package org.schedule.schedulemanaging.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 정원이 찬 일정의 예약 대기. 같은 일정 안에서 id 순서(FIFO)로 승급.
+ */
+@Entity
+@Table(name = "waitlist_entries", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_waitlist_schedule_member", columnNames = {"schedule_id", "member_id"})
+}, indexes = {
+    @Index(name = "idx_waitlist_schedule_id", columnList = "schedule_id, id") // 대기열 선두 조회용
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    private Schedule schedule;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private User member;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -1,13 +1,71 @@
 package org.schedule.schedulemanaging.repository;
 
+import org.schedule.schedulemanaging.dto.attendance.ParticipantResponse;
+import org.schedule.schedulemanaging.dto.detail.MemberScheduleHistoryResponse;
 import org.schedule.schedulemanaging.entity.Enrollment;
 import org.schedule.schedulemanaging.entity.Schedule;
 import org.schedule.schedulemanaging.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     boolean existsByScheduleAndMember(Schedule schedule, User member);
     List<Enrollment> findAllBySchedule(Schedule schedule);
+    long countByScheduleId(Long scheduleId);
+
+    Optional<Enrollment> findByScheduleIdAndMemberId(Long scheduleId, Long memberId);
+
+    // 취소: 삭제에 성공한 트랜잭션만 좌석/회원권을 반환하도록 삭제 건수로 판정 (동시 취소 중복 반환 방지)
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.id = :id")
+    int deleteByIdReturningCount(@Param("id") Long id);
+
+    // 참여자 명단: 회원 조인 DTO 조회 한 번으로 처리하고, 담당 강사 확인도 WHERE 조건에 포함
+    @Query("SELECT new org.schedule.schedulemanaging.dto.attendance.ParticipantResponse(" +
+           "e.id, m.id, m.name, m.email, e.attendanceStatus, e.enrolledAt) " +
+           "FROM Enrollment e JOIN e.member m JOIN e.schedule s " +
+           "WHERE s.id = :scheduleId AND s.instructor.email = :instructorEmail " +
+           "ORDER BY m.name, e.id")
+    List<ParticipantResponse> findRoster(@Param("scheduleId") Long scheduleId,
+                                         @Param("instructorEmail") String instructorEmail);
+
+    // 출결 일괄 처리: 같은 상태로 바뀌는 예약들을 한 문장으로 갱신 (다른 일정의 예약 ID는 조건에서 제외됨)
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.attendanceStatus = :status WHERE e.schedule.id = :scheduleId AND e.id IN :enrollmentIds")
+    int updateAttendanceStatus(@Param("scheduleId") Long scheduleId,
+                               @Param("enrollmentIds") Collection<Long> enrollmentIds,
+                               @Param("status") Enrollment.AttendanceStatus status);
+
+    // 회원 예약 이력: idx_enrollment_member_start(member_id, scheduleStartTime, schedule_id)를 역순으로 읽는 키셋 페이지 (최근 일정부터)
+    @Query("SELECT new org.schedule.schedulemanaging.dto.detail.MemberScheduleHistoryResponse(" +
+           "s.id, s.title, s.startTime, s.endTime, i.id, i.name, e.attendanceStatus, e.enrolledAt) " +
+           "FROM Enrollment e JOIN e.schedule s JOIN s.instructor i " +
+           "WHERE e.member.id = :memberId AND (e.scheduleStartTime, e.schedule.id) < (:beforeStartTime, :beforeScheduleId) " +
+           "AND s.organization.id = :organizationId " +
+           "ORDER BY e.scheduleStartTime DESC, e.schedule.id DESC")
+    List<MemberScheduleHistoryResponse> findMemberHistory(@Param("organizationId") Long organizationId,
+                                                          @Param("memberId") Long memberId,
+                                                          @Param("beforeStartTime") LocalDateTime beforeStartTime,
+                                                          @Param("beforeScheduleId") Long beforeScheduleId,
+                                                          Limit limit);
+
+    // 일정 시간 변경 후 예약에 복사해 둔 시작 시각을 일정과 맞춤 (변경 감지된 일정 UPDATE를 먼저 flush)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Enrollment e SET e.scheduleStartTime = (SELECT s.startTime FROM Schedule s WHERE s.id = e.schedule.id) " +
+           "WHERE e.schedule.id IN :scheduleIds")
+    int syncScheduleStartTime(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 시작 시각 사본이 없는 이전 예약 채우기 (기동 시 EnrollmentStartTimeBackfill)
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.scheduleStartTime = (SELECT s.startTime FROM Schedule s WHERE s.id = e.schedule.id) " +
+           "WHERE e.scheduleStartTime IS NULL")
+    int backfillScheduleStartTime();
 }
@@ -4,8 +4,15 @@ import org.schedule.schedulemanaging.entity.InstructorSalaryConfig;
 import org.schedule.schedulemanaging.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InstructorSalaryConfigRepository extends JpaRepository<InstructorSalaryConfig, Long> {
     Optional<InstructorSalaryConfig> findByInstructor(User instructor);
+
+    // 강사 목록의 급여 설정을 IN 절 한 번으로 일괄 조회 (강사 수만큼 쿼리가 나가는 N+1 방지)
+    List<InstructorSalaryConfig> findAllByInstructorIn(Collection<User> instructors);
+
+    List<InstructorSalaryConfig> findAllByInstructorIdIn(Collection<Long> instructorIds);
 }
@@ -5,4 +5,5 @@ import org.schedule.schedulemanaging.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface InstructorSettlementRepository extends JpaRepository<InstructorSettlement, Long> {
+    boolean existsByInstructorAndSettlementMonth(User instructor, String settlementMonth);
 }
@@ -1,18 +1,37 @@
 package org.schedule.schedulemanaging.repository;
 
 import jakarta.persistence.LockModeType;
+import org.schedule.schedulemanaging.dto.membership.MembershipBalance;
 import org.schedule.schedulemanaging.entity.Membership;
 import org.schedule.schedulemanaging.entity.Organization;
 import org.schedule.schedulemanaging.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface MembershipRepository extends JpaRepository<Membership, Long> {
+    // 오늘 날짜는 DB의 CURRENT_DATE 대신 애플리케이션 Clock 기준으로 전달 (Membership.usePass와 같은 기준)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT m FROM Membership m WHERE m.user = :user AND m.organization = :org AND m.expiryDate >= CURRENT_DATE")
-    Optional<Membership> findActiveMembershipWithLock(@Param("user") User user, @Param("org") Organization org);
+    @Query("SELECT m FROM Membership m WHERE m.user = :user AND m.organization = :org AND m.expiryDate >= :today")
+    Optional<Membership> findActiveMembershipWithLock(@Param("user") User user, @Param("org") Organization org,
+                                                      @Param("today") LocalDate today);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Membership m WHERE m.id = :id")
+    Optional<Membership> findByIdWithLock(@Param("id") Long id);
+
+    // 잔여 횟수 캐시 적재용 (엔티티 미적재, 잠금 없음). 횟수가 남은 회원권 중 만료가 가까운 것 우선
+    @Query("SELECT new org.schedule.schedulemanaging.dto.membership.MembershipBalance(m.id, m.remainingCount, m.expiryDate, m.version) " +
+           "FROM Membership m WHERE m.user.id = :memberId AND m.organization.id = :organizationId AND m.expiryDate >= :today " +
+           "ORDER BY CASE WHEN m.remainingCount > 0 THEN 0 ELSE 1 END, m.expiryDate")
+    List<MembershipBalance> findActiveBalances(@Param("memberId") Long memberId,
+                                               @Param("organizationId") Long organizationId,
+                                               @Param("today") LocalDate today,
+                                               Limit limit);
 }
@@ -0,0 +1,25 @@
+package org.schedule.schedulemanaging.repository;
+
+import org.schedule.schedulemanaging.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 여러 릴레이(노드)가 동시에 실행되어도 같은 행을 가져가지 않도록 SKIP LOCKED로 선점
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = org.schedule.schedulemanaging.entity.NotificationOutbox.Status.SENT " +
+           "AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,16 @@
+package org.schedule.schedulemanaging.repository;
+
+import org.schedule.schedulemanaging.entity.Organization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * 조직(테넌트) 데이터 접근을 위한 JPA 리포지토리.
+ */
+public interface OrganizationRepository extends JpaRepository<Organization, Long> {
+
+    @Query("SELECT o.id FROM Organization o ORDER BY o.id")
+    List<Long> findAllIds();
+}
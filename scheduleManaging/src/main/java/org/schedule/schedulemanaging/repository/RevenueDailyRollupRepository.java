@@ -0,0 +1,41 @@
+package org.schedule.schedulemanaging.repository;
+
+import org.schedule.schedulemanaging.dto.statistics.ProductRevenue;
+import org.schedule.schedulemanaging.dto.statistics.RevenueBucket;
+import org.schedule.schedulemanaging.entity.RevenueDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RevenueDailyRollupRepository extends JpaRepository<RevenueDailyRollup, Long> {
+
+    // 기간 [from, to)의 월별 합계 (한 번의 쿼리로 전체 시계열)
+    @Query("SELECT new org.schedule.schedulemanaging.dto.statistics.RevenueBucket(" +
+           "YEAR(r.rollupDate), MONTH(r.rollupDate), SUM(r.revenue), SUM(r.purchaseCount)) " +
+           "FROM RevenueDailyRollup r " +
+           "WHERE r.organization.id = :organizationId AND r.rollupDate >= :from AND r.rollupDate < :to " +
+           "GROUP BY YEAR(r.rollupDate), MONTH(r.rollupDate)")
+    List<RevenueBucket> sumByMonth(@Param("organizationId") Long organizationId,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    @Query("SELECT new org.schedule.schedulemanaging.dto.statistics.RevenueBucket(" +
+           "YEAR(r.rollupDate), 0, SUM(r.revenue), SUM(r.purchaseCount)) " +
+           "FROM RevenueDailyRollup r " +
+           "WHERE r.organization.id = :organizationId AND r.rollupDate >= :from AND r.rollupDate < :to " +
+           "GROUP BY YEAR(r.rollupDate)")
+    List<RevenueBucket> sumByYear(@Param("organizationId") Long organizationId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    @Query("SELECT new org.schedule.schedulemanaging.dto.statistics.ProductRevenue(r.productName, SUM(r.revenue), SUM(r.purchaseCount)) " +
+           "FROM RevenueDailyRollup r " +
+           "WHERE r.organization.id = :organizationId AND r.rollupDate >= :from AND r.rollupDate < :to " +
+           "GROUP BY r.productName ORDER BY SUM(r.revenue) DESC")
+    List<ProductRevenue> sumByProduct(@Param("organizationId") Long organizationId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
@@ -1,16 +1,24 @@
 package org.schedule.schedulemanaging.repository;
 
 import jakarta.persistence.LockModeType;
+import org.schedule.schedulemanaging.dto.schedule.CalendarScheduleResponse;
+import org.schedule.schedulemanaging.dto.schedule.CalendarVersion;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleInterval;
+import org.schedule.schedulemanaging.dto.schedule.SeatCount;
+import org.schedule.schedulemanaging.dto.settlement.InstructorSessionCount;
 import org.schedule.schedulemanaging.entity.Schedule;
 import org.schedule.schedulemanaging.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
@@ -19,9 +27,82 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     Optional<Schedule> findByIdAndInstructor(Long id, User instructor);
 
+    // 캘린더 범위 조회: idx_schedule_org_time (organization_id, startTime) 범위 스캔, 엔티티 미적재·COUNT 없음
+    @Query("SELECT new org.schedule.schedulemanaging.dto.schedule.CalendarScheduleResponse(" +
+           "s.id, s.title, s.startTime, s.endTime, i.id, i.name, s.maxCapacity, s.currentParticipants) " +
+           "FROM Schedule s JOIN s.instructor i " +
+           "WHERE s.organization.id = :organizationId AND s.startTime >= :from AND s.startTime < :to " +
+           "ORDER BY s.startTime, s.id")
+    List<CalendarScheduleResponse> findCalendar(@Param("organizationId") Long organizationId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // 캘린더 ETag 계산용 (같은 인덱스 범위에서 집계만 수행)
+    @Query("SELECT new org.schedule.schedulemanaging.dto.schedule.CalendarVersion(COUNT(s), MAX(s.updatedAt), SUM(s.version)) " +
+           "FROM Schedule s " +
+           "WHERE s.organization.id = :organizationId AND s.startTime >= :from AND s.startTime < :to")
+    CalendarVersion findCalendarVersion(@Param("organizationId") Long organizationId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    // 강사 중복 배정 검사 인덱스 적재용 (조직 전체 일정 구간)
+    @Query("SELECT new org.schedule.schedulemanaging.dto.schedule.ScheduleInterval(s.id, s.instructor.id, s.startTime, s.endTime) " +
+           "FROM Schedule s WHERE s.organization.id = :organizationId")
+    List<ScheduleInterval> findIntervalsByOrganization(@Param("organizationId") Long organizationId);
+
+    // 반복 일정의 지정 시각 이후 회차 (시리즈 수정 시 다시 작성할 대상)
+    List<Schedule> findAllBySeriesIdAndStartTimeGreaterThanEqualOrderByStartTime(Long seriesId, LocalDateTime from);
+
+    // 담당 강사 확인 (일정-강사 조인 한 번으로 존재 여부와 소유권을 함께 판단)
+    boolean existsByIdAndInstructorEmail(Long id, String email);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Schedule s WHERE s.id = :id")
     Optional<Schedule> findByIdWithLock(@Param("id") Long id);
 
+    // 실시간 좌석 피드: 변경된 일정들의 좌석 현황을 한 번에 조회
+    @Query("SELECT new org.schedule.schedulemanaging.dto.schedule.SeatCount(s.id, s.organization.id, s.currentParticipants, s.maxCapacity) " +
+           "FROM Schedule s WHERE s.id IN :ids")
+    List<SeatCount> findSeatCounts(@Param("ids") Collection<Long> ids);
+
+    // 잔여 좌석 수를 엔티티 로딩 없이 최신 커밋 기준으로 조회 (좌석 원장 적재용)
+    @Query("SELECT s.maxCapacity - s.currentParticipants FROM Schedule s WHERE s.id = :id")
+    Optional<Integer> findAvailableSeats(@Param("id") Long id);
+
+    // 좌석 원장의 누적 증감분을 정원 범위 내에서만 반영
+    @Modifying
+    @Query("UPDATE Schedule s SET s.currentParticipants = s.currentParticipants + :delta, s.version = s.version + 1 " +
+           "WHERE s.id = :id AND s.currentParticipants + :delta BETWEEN 0 AND s.maxCapacity")
+    int applyParticipantDelta(@Param("id") Long id, @Param("delta") int delta);
+
+    // OPTIMISTIC 모드: 정원 검사와 증가를 한 문장으로 처리 (잔여 좌석이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE Schedule s SET s.currentParticipants = s.currentParticipants + 1, s.version = s.version + 1 " +
+           "WHERE s.id = :id AND s.currentParticipants < s.maxCapacity")
+    int incrementParticipantsIfAvailable(@Param("id") Long id);
+
+    // OPTIMISTIC 모드 취소: 참여 인원 1 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Schedule s SET s.currentParticipants = s.currentParticipants - 1, s.version = s.version + 1 " +
+           "WHERE s.id = :id AND s.currentParticipants > 0")
+    int decrementParticipantsIfPositive(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Schedule s SET s.currentParticipants = :participants, s.version = s.version + 1 WHERE s.id = :id")
+    int overwriteParticipants(@Param("id") Long id, @Param("participants") int participants);
+
     long countByInstructorAndStartTimeBetween(User instructor, LocalDateTime start, LocalDateTime end);
+
+    // 정산용: 기간 [start, end) 내 강사별 수업 횟수를 DB에서 GROUP BY로 한 번에 집계 (엔티티 로딩 없음)
+    @Query("SELECT new org.schedule.schedulemanaging.dto.settlement.InstructorSessionCount(s.instructor.id, COUNT(s)) " +
+           "FROM Schedule s WHERE s.startTime >= :start AND s.startTime < :end GROUP BY s.instructor.id")
+    List<InstructorSessionCount> countSessionsGroupByInstructor(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 정산 배치 청크용: 지정한 강사들만 대상으로 집계
+    @Query("SELECT new org.schedule.schedulemanaging.dto.settlement.InstructorSessionCount(s.instructor.id, COUNT(s)) " +
+           "FROM Schedule s WHERE s.instructor.id IN :instructorIds AND s.startTime >= :start AND s.startTime < :end " +
+           "GROUP BY s.instructor.id")
+    List<InstructorSessionCount> countSessionsGroupByInstructorIn(@Param("instructorIds") Collection<Long> instructorIds,
+                                                                  @Param("start") LocalDateTime start,
+                                                                  @Param("end") LocalDateTime end);
 }
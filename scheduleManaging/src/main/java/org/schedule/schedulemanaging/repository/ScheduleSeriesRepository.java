@@ -0,0 +1,12 @@
+package org.schedule.schedulemanaging.repository;
+
+import org.schedule.schedulemanaging.entity.ScheduleSeries;
+import org.schedule.schedulemanaging.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ScheduleSeriesRepository extends JpaRepository<ScheduleSeries, Long> {
+
+    Optional<ScheduleSeries> findByIdAndInstructor(Long id, User instructor);
+}
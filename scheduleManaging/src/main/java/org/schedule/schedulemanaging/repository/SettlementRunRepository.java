@@ -0,0 +1,21 @@
+package org.schedule.schedulemanaging.repository;
+
+import org.schedule.schedulemanaging.entity.SettlementRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+    Optional<SettlementRun> findBySettlementMonth(String settlementMonth);
+
+    // 청크 커밋과 같은 트랜잭션에서 진행 건수를 원자적으로 누적 (체크포인트)
+    @Modifying
+    @Query("UPDATE SettlementRun r SET r.processedCount = r.processedCount + :processed, " +
+           "r.skippedCount = r.skippedCount + :skipped, r.checkpointAt = :now WHERE r.id = :id")
+    int addProgress(@Param("id") Long id, @Param("processed") long processed,
+                    @Param("skipped") long skipped, @Param("now") LocalDateTime now);
+}
@@ -1,7 +1,21 @@
 package org.schedule.schedulemanaging.repository;
 
+import org.schedule.schedulemanaging.dto.detail.InstructorDetailResponse;
+import org.schedule.schedulemanaging.dto.instructor.InstructorResponse;
+import org.schedule.schedulemanaging.dto.member.MemberResponse;
+import org.schedule.schedulemanaging.dto.notification.UserFcmToken;
 import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.security.UserPrincipal;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +26,65 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     List<User> findAllByRole(User.Role role);
+
+    // 인증 식별 정보만 조회 (UserIdentityResolver 캐시 적재용, 조직 미소속 사용자 포함)
+    @Query("SELECT new org.schedule.schedulemanaging.security.UserPrincipal(u.id, o.id, u.email, u.name, u.role) " +
+           "FROM User u LEFT JOIN u.organization o WHERE u.email = :email")
+    Optional<UserPrincipal> findPrincipalByEmail(@Param("email") String email);
+
+    // 조직 소속 강사 목록 + 급여 설정을 한 번의 조인 쿼리로 DTO 조회 (엔티티 미적재, N+1 제거)
+    @Query(value = "SELECT new org.schedule.schedulemanaging.dto.instructor.InstructorResponse(u.id, u.name, c.baseSalary, c.incentivePerSession) " +
+                   "FROM User u LEFT JOIN InstructorSalaryConfig c ON c.instructor = u " +
+                   "WHERE u.organization.id = :organizationId AND u.role = org.schedule.schedulemanaging.entity.User.Role.INSTRUCTOR",
+           countQuery = "SELECT COUNT(u) FROM User u " +
+                        "WHERE u.organization.id = :organizationId AND u.role = org.schedule.schedulemanaging.entity.User.Role.INSTRUCTOR")
+    Page<InstructorResponse> findInstructorPage(@Param("organizationId") Long organizationId, Pageable pageable);
+
+    // 해당 월 정산 레코드가 아직 없는 강사 ID 목록 (정산 배치 재시작 지점 계산용)
+    @Query("SELECT u.id FROM User u WHERE u.role = org.schedule.schedulemanaging.entity.User.Role.INSTRUCTOR " +
+           "AND NOT EXISTS (SELECT 1 FROM InstructorSettlement s WHERE s.instructor = u AND s.settlementMonth = :month) " +
+           "ORDER BY u.id")
+    List<Long> findUnsettledInstructorIds(@Param("month") String settlementMonth);
+
+    // FCM 발송 결과 만료/해지된 토큰을 일괄 제거
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
+
+    // 아웃박스 릴레이가 발송 시점의 최신 FCM 토큰을 일괄 조회
+    @Query("SELECT new org.schedule.schedulemanaging.dto.notification.UserFcmToken(u.id, u.fcmToken) FROM User u WHERE u.id IN :ids")
+    List<UserFcmToken> findFcmTokensByIds(@Param("ids") Collection<Long> ids);
+
+    // 회원 목록 키셋 페이지: (name, id) 커서 이후 행을 인덱스 순서대로 읽으므로 페이지 깊이와 무관하게 일정한 비용
+    @Query("SELECT new org.schedule.schedulemanaging.dto.member.MemberResponse(u.id, u.name) FROM User u " +
+           "WHERE u.organization.id = :organizationId AND u.role = org.schedule.schedulemanaging.entity.User.Role.MEMBER " +
+           "AND (u.name, u.id) > (:afterName, :afterId) " +
+           "ORDER BY u.name, u.id")
+    List<MemberResponse> findMemberPage(@Param("organizationId") Long organizationId,
+                                        @Param("afterName") String afterName,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
+
+    // 이름 접두어 검색: [prefix, prefixEnd) 범위로 인덱스를 타고, LIKE는 범위 내 정확한 접두어 일치만 걸러냄
+    @Query("SELECT new org.schedule.schedulemanaging.dto.member.MemberResponse(u.id, u.name) FROM User u " +
+           "WHERE u.organization.id = :organizationId AND u.role = org.schedule.schedulemanaging.entity.User.Role.MEMBER " +
+           "AND (u.name, u.id) > (:afterName, :afterId) AND u.name < :prefixEnd AND u.name LIKE :pattern ESCAPE '\\' " +
+           "ORDER BY u.name, u.id")
+    List<MemberResponse> searchMemberPage(@Param("organizationId") Long organizationId,
+                                          @Param("afterName") String afterName,
+                                          @Param("afterId") Long afterId,
+                                          @Param("prefixEnd") String prefixEnd,
+                                          @Param("pattern") String pattern,
+                                          Limit limit);
+
+    // 강사 상세: 담당 수업/회원 수를 일정-예약 조인 후 GROUP BY 한 번으로 집계 (회원은 중복 제외)
+    @Query("SELECT new org.schedule.schedulemanaging.dto.detail.InstructorDetailResponse(" +
+           "u.id, u.name, u.email, COUNT(DISTINCT s.id), COUNT(DISTINCT e.member.id)) " +
+           "FROM User u LEFT JOIN Schedule s ON s.instructor = u LEFT JOIN Enrollment e ON e.schedule = s " +
+           "WHERE u.id = :instructorId AND u.organization.id = :organizationId " +
+           "AND u.role = org.schedule.schedulemanaging.entity.User.Role.INSTRUCTOR " +
+           "GROUP BY u.id, u.name, u.email")
+    Optional<InstructorDetailResponse> findInstructorDetail(@Param("organizationId") Long organizationId,
+                                                            @Param("instructorId") Long instructorId);
 }
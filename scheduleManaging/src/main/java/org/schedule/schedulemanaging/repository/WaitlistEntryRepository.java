@@ -0,0 +1,46 @@
+package org.schedule.schedulemanaging.repository;
+
+import org.schedule.schedulemanaging.entity.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    boolean existsByScheduleIdAndMemberId(Long scheduleId, Long memberId);
+
+    boolean existsByScheduleId(Long scheduleId);
+
+    long countByScheduleIdAndIdLessThanEqual(Long scheduleId, Long id);
+
+    // 승급 대상(대기열 선두). 동시에 승급 중인 다른 트랜잭션이 잡은 행은 건너뜀
+    @Query(value = "SELECT * FROM waitlist_entries WHERE schedule_id = :scheduleId ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<WaitlistEntry> findHeadForUpdate(@Param("scheduleId") Long scheduleId);
+
+    // 인메모리 대기열 인덱스 적재용 (id 순서)
+    @Query("SELECT w.id, w.member.id FROM WaitlistEntry w WHERE w.schedule.id = :scheduleId ORDER BY w.id")
+    List<Object[]> findQueue(@Param("scheduleId") Long scheduleId);
+
+    // 주기 점검 대상: 아직 시작하지 않은 일정 중 대기자가 있는 일정
+    @Query("SELECT DISTINCT w.schedule.id FROM WaitlistEntry w WHERE w.schedule.startTime > :now")
+    List<Long> findScheduleIdsWithWaiters(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.schedule.id = :scheduleId AND w.member.id = :memberId")
+    int deleteByScheduleIdAndMemberId(@Param("scheduleId") Long scheduleId, @Param("memberId") Long memberId);
+
+    // 일정 삭제 전 대기자 알림 대상 (회원 ID)
+    @Query("SELECT w.member.id FROM WaitlistEntry w WHERE w.schedule.id = :scheduleId ORDER BY w.id")
+    List<Long> findMemberIdsByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 일정 삭제 전 대기 일괄 삭제 (waitlist_entries.schedule_id 외래 키)
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.schedule.id = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+}
@@ -0,0 +1,76 @@
+package org.schedule.schedulemanaging.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 -> Authentication 캐시.
+ * 같은 토큰으로 반복되는 요청은 HMAC 검증과 JSON 파싱 없이 처리하고, 각 항목은 토큰의 exp 시각에 만료.
+ * 검증에 실패한 토큰은 캐시하지 않음 (임의 토큰으로 캐시를 밀어내는 것을 방지).
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${spring.jwt.cache-size:10000}") long cacheSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * 유효한 토큰이면 Authentication, 아니면 null.
+     */
+    public Authentication resolve(String token) {
+        CachedAuthentication cached = cache.getIfPresent(token);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token).orElse(null);
+        if (claims == null) {
+            return null;
+        }
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(token, new CachedAuthentication(authentication, expiration.getTime()));
+        }
+        return authentication;
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(String token, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
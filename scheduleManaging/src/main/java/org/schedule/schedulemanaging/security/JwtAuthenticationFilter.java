@@ -13,20 +13,23 @@ import java.io.IOException;
 
 /**
  * HTTP 요청의 Authorization 헤더에서 JWT를 추출하여 검증하는 필터.
+ * 검증 결과는 JwtAuthenticationCache에 토큰 만료 시각까지 보관되어 반복 요청의 서명 검증을 생략.
  */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (token != null) {
+            Authentication auth = jwtAuthenticationCache.resolve(token);
+            if (auth != null) {
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -2,6 +2,7 @@ package org.schedule.schedulemanaging.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.schedule.schedulemanaging.entity.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -12,6 +13,7 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 생성 및 검증을 담당하는 컴포넌트.
@@ -20,19 +22,27 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser parser; // 불변·스레드 안전하므로 요청마다 새로 만들지 않고 재사용
     private final long validityInMilliseconds;
 
     public JwtTokenProvider(
             @Value("${spring.jwt.secret}") String secretKey,
             @Value("${spring.jwt.expiration}") long validityInMilliseconds) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.validityInMilliseconds = validityInMilliseconds;
     }
 
-    public String createToken(String email, String role) {
+    /**
+     * 사용자/조직 ID와 이름을 클레임에 포함해 요청마다 이메일로 사용자를 다시 조회하지 않도록 함.
+     */
+    public String createToken(User user) {
         Claims claims = Jwts.claims()
-                .subject(email)
-                .add("role", role)
+                .subject(user.getEmail())
+                .add("role", user.getRole().name())
+                .add("uid", user.getId())
+                .add("oid", user.getOrganization() != null ? user.getOrganization().getId() : null)
+                .add("name", user.getName())
                 .build();
 
         Date now = new Date();
@@ -46,21 +56,38 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명·만료 검증과 클레임 추출을 한 번의 파싱으로 수행. 유효하지 않으면 empty.
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return getAuthentication(parser.parseSignedClaims(token).getPayload());
+    }
+
+    public Authentication getAuthentication(Claims claims) {
         String email = claims.getSubject();
         String role = claims.get("role", String.class);
 
-        return new UsernamePasswordAuthenticationToken(email, "", 
+        // 이전 형식 토큰은 uid/oid가 없으므로 null (UserIdentityResolver가 캐시 조회로 대체)
+        // 발급 시각은 사용자 변경 이후 발급된 토큰인지 UserIdentityResolver가 판단하는 데 사용
+        Date issuedAt = claims.getIssuedAt();
+        UserPrincipal principal = new UserPrincipal(
+                claims.get("uid", Long.class), claims.get("oid", Long.class),
+                email, claims.get("name", String.class), role,
+                issuedAt != null ? issuedAt.getTime() : null);
+
+        return new UsernamePasswordAuthenticationToken(principal, "", 
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
     }
 }
@@ -54,7 +54,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         });
 
         // JWT 생성
-        String token = tokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = tokenProvider.createToken(user);
 
         // 프론트엔드 리다이렉트 (JWT와 함께)
         String targetUrl = UriComponentsBuilder.fromUriString("http://localhost:5173/oauth/callback")
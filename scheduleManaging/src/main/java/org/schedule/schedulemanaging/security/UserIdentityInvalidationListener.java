@@ -0,0 +1,42 @@
+package org.schedule.schedulemanaging.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.schedule.schedulemanaging.entity.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경 시 UserIdentityResolver 캐시 무효화 및 기존 토큰 클레임 폐기.
+ * 커밋 전 다른 요청이 이전 값을 다시 적재하거나 이전 값으로 토큰을 발급할 수 있으므로 커밋 후에도 한 번 더 반영.
+ * (EntityManagerFactory 초기화 순환을 피하기 위해 ObjectProvider로 지연 조회)
+ */
+@Component
+public class UserIdentityInvalidationListener {
+
+    private final ObjectProvider<UserIdentityResolver> resolver;
+
+    public UserIdentityInvalidationListener(ObjectProvider<UserIdentityResolver> resolver) {
+        this.resolver = resolver;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        String email = user.getEmail();
+        Long userId = user.getId();
+        resolver.getObject().invalidate(email);
+        resolver.getObject().markChanged(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resolver.getObject().invalidate(email);
+                    resolver.getObject().markChanged(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.schedule.schedulemanaging.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일(JWT subject) -> 사용자 식별 정보 변환.
+ * 1) 현재 요청의 토큰에 사용자/조직 ID 클레임이 있고, 토큰 발급 이후 사용자가 변경되지 않았으면 DB 조회 없이 사용
+ * 2) 아니면(이전 형식 토큰, 발급 후 변경된 사용자, 배치 등) 짧은 TTL의 이메일 캐시에서 조회
+ * 서비스는 반환된 ID로 getReferenceById를 사용해 사용자 조회 쿼리를 생략.
+ * 사용자 수정/삭제 시 UserIdentityInvalidationListener가 캐시를 무효화하고 변경 시각을 기록.
+ * 변경 시각은 토큰 최대 수명(spring.jwt.expiration) 동안만 보관 (그보다 먼저 발급된 토큰은 이미 만료).
+ */
+@Component
+public class UserIdentityResolver {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> cache;
+    private final Cache<Long, Long> changedAtMillis; // 사용자 ID -> 마지막 변경 시각
+
+    public UserIdentityResolver(
+            UserRepository userRepository,
+            @Value("${spring.user-identity.cache-size:10000}") long cacheSize,
+            @Value("${spring.user-identity.cache-ttl:5m}") Duration cacheTtl,
+            @Value("${spring.user-identity.revocation-size:100000}") long revocationSize,
+            @Value("${spring.jwt.expiration}") long tokenValidityMillis) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.changedAtMillis = Caffeine.newBuilder()
+                .maximumSize(revocationSize)
+                .expireAfterWrite(Duration.ofMillis(tokenValidityMillis))
+                .build();
+    }
+
+    public UserPrincipal resolve(String email) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getUserId() != null
+                && principal.getEmail().equals(email)
+                && !changedSince(principal)) {
+            return principal;
+        }
+
+        UserPrincipal cached = cache.get(email, key -> userRepository.findPrincipalByEmail(key).orElse(null));
+        if (cached == null) {
+            throw new BaseException(ErrorCode.INVALID_CREDENTIALS);
+        }
+        return cached;
+    }
+
+    /**
+     * 요청자의 조직 ID. 조직 미소속 사용자는 ORGANIZATION_NOT_FOUND.
+     */
+    public Long requireOrganizationId(String email) {
+        Long organizationId = resolve(email).getOrganizationId();
+        if (organizationId == null) {
+            throw new BaseException(ErrorCode.ORGANIZATION_NOT_FOUND);
+        }
+        return organizationId;
+    }
+
+    /**
+     * 요청자의 역할이 roles 중 하나인지 확인. 아니면 denied로 거절.
+     */
+    public UserPrincipal requireRole(String email, ErrorCode denied, User.Role... roles) {
+        UserPrincipal principal = resolve(email);
+        for (User.Role role : roles) {
+            if (role.name().equals(principal.getRole())) {
+                return principal;
+            }
+        }
+        throw new BaseException(denied);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    /**
+     * 사용자 변경 시점 기록. 이 시각 이전(같은 초 포함)에 발급된 토큰의 ID/역할 클레임은 더 이상 신뢰하지 않음.
+     */
+    public void markChanged(Long userId) {
+        if (userId != null) {
+            changedAtMillis.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    // iat는 초 단위로 잘리므로 같은 초에 발급된 토큰도 변경 전 토큰으로 간주
+    private boolean changedSince(UserPrincipal principal) {
+        Long changedAt = changedAtMillis.getIfPresent(principal.getUserId());
+        if (changedAt == null) {
+            return false;
+        }
+        return principal.getIssuedAtMillis() == null || principal.getIssuedAtMillis() / 1000 <= changedAt / 1000;
+    }
+}
@@ -0,0 +1,42 @@
+package org.schedule.schedulemanaging.security;
+
+import lombok.Getter;
+import org.schedule.schedulemanaging.entity.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * 인증된 사용자 식별 정보. (JWT 클레임 또는 UserIdentityResolver 캐시에서 생성)
+ * getName()은 기존과 동일하게 이메일을 반환하므로 Principal#getName() 사용처는 그대로 동작.
+ */
+@Getter
+public class UserPrincipal implements AuthenticatedPrincipal {
+    private final Long userId;
+    private final Long organizationId; // 조직 미소속 사용자는 null
+    private final String email;
+    private final String displayName;
+    private final String role;
+    private final Long issuedAtMillis; // 토큰 발급 시각 (토큰 클레임에서 만든 경우만, 아니면 null)
+
+    public UserPrincipal(Long userId, Long organizationId, String email, String displayName, String role, Long issuedAtMillis) {
+        this.userId = userId;
+        this.organizationId = organizationId;
+        this.email = email;
+        this.displayName = displayName;
+        this.role = role;
+        this.issuedAtMillis = issuedAtMillis;
+    }
+
+    public UserPrincipal(Long userId, Long organizationId, String email, String displayName, String role) {
+        this(userId, organizationId, email, displayName, role, null);
+    }
+
+    // JPQL 생성자 프로젝션용
+    public UserPrincipal(Long userId, Long organizationId, String email, String displayName, User.Role role) {
+        this(userId, organizationId, email, displayName, role != null ? role.name() : null);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -6,9 +6,11 @@ import org.schedule.schedulemanaging.common.exception.ErrorCode;
 import org.schedule.schedulemanaging.dto.auth.LoginRequest;
 import org.schedule.schedulemanaging.dto.auth.SignUpRequest;
 import org.schedule.schedulemanaging.dto.auth.TokenResponse;
+import org.schedule.schedulemanaging.entity.NotificationOutbox;
 import org.schedule.schedulemanaging.entity.User;
 import org.schedule.schedulemanaging.repository.UserRepository;
 import org.schedule.schedulemanaging.security.JwtTokenProvider;
+import org.schedule.schedulemanaging.service.notification.NotificationOutboxService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +26,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final org.schedule.schedulemanaging.service.notification.NotificationService emailNotificationService;
+    private final NotificationOutboxService outboxService;
 
     @Transactional
     public void signUp(SignUpRequest request) {
@@ -42,7 +44,8 @@ public class AuthService {
         userRepository.save(user);
 
         // 회원가입 환영 메일 발송
-        emailNotificationService.send(
+        outboxService.enqueue(
+            NotificationOutbox.Channel.EMAIL,
             user.getEmail(),
             "[Nexus] Welcome to our workspace!",
             "Hi " + user.getName() + ",\n\nWelcome to Nexus! Your account has been successfully created."
@@ -57,7 +60,7 @@ public class AuthService {
             throw new BaseException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user);
 
         return TokenResponse.builder()
                 .accessToken(token)
@@ -0,0 +1,63 @@
+package org.schedule.schedulemanaging.service;
+
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.common.response.CursorResponse;
+import org.schedule.schedulemanaging.dto.detail.InstructorDetailResponse;
+import org.schedule.schedulemanaging.dto.detail.MemberHistoryCursor;
+import org.schedule.schedulemanaging.dto.detail.MemberScheduleHistoryResponse;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DetailService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
+
+    /**
+     * 요청자 조직 내 회원의 예약 이력 (일정 시작 시각 내림차순, 같은 시각은 일정 ID 내림차순 키셋 페이지).
+     * cursor는 이전 페이지 마지막 행의 (시작 시각, 일정 ID)를 인코딩한 값.
+     */
+    public CursorResponse<MemberScheduleHistoryResponse> getMemberSchedules(String email, Long memberId, String cursor, int size) {
+        Long organizationId = userIdentityResolver.requireOrganizationId(email);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        MemberHistoryCursor before = cursor != null && !cursor.isBlank()
+                ? MemberHistoryCursor.decode(cursor)
+                : MemberHistoryCursor.FIRST;
+
+        List<MemberScheduleHistoryResponse> rows = enrollmentRepository.findMemberHistory(
+                organizationId, memberId, before.startTime(), before.scheduleId(),
+                Limit.of(pageSize + 1)); // 1건 더 조회해 다음 페이지 존재 여부 판단
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MemberScheduleHistoryResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MemberScheduleHistoryResponse last = items.getLast();
+            nextCursor = new MemberHistoryCursor(last.getStartTime(), last.getScheduleId()).encode();
+        }
+        return new CursorResponse<>(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 요청자 조직 강사의 상세 정보와 담당 수업/회원 수.
+     */
+    public InstructorDetailResponse getInstructorDetail(String email, Long instructorId) {
+        return userRepository.findInstructorDetail(userIdentityResolver.requireOrganizationId(email), instructorId)
+                .orElseThrow(() -> new BaseException(ErrorCode.INSTRUCTOR_NOT_FOUND));
+    }
+}
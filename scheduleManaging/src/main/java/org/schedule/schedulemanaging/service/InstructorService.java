@@ -6,13 +6,15 @@ import org.schedule.schedulemanaging.dto.instructor.InstructorResponse;
 import org.schedule.schedulemanaging.entity.InstructorSalaryConfig;
 import org.schedule.schedulemanaging.entity.User;
 import org.schedule.schedulemanaging.repository.InstructorSalaryConfigRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
 import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,32 +23,23 @@ public class InstructorService {
 
     private final UserRepository userRepository;
     private final InstructorSalaryConfigRepository instructorSalaryConfigRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserIdentityResolver userIdentityResolver;
 
-    public List<InstructorResponse> getAllInstructors() {
-        return userRepository.findAllByRole(User.Role.INSTRUCTOR).stream()
-                .map(user -> {
-                    InstructorSalaryConfig config = instructorSalaryConfigRepository.findByInstructor(user)
-                            .orElse(null);
-                    return InstructorResponse.builder()
-                            .id(user.getId())
-                            .name(user.getName())
-                            .phone("010-0000-0000") // User 엔티티에 phone 필드가 없으므로 임시 처리
-                            .color("#6366f1")
-                            .basic_pay(config != null ? config.getBaseSalary() : java.math.BigDecimal.ZERO)
-                            .rate(config != null ? config.getIncentivePerSession() : java.math.BigDecimal.ZERO)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    // 요청자 조직의 강사만 조회 (강사 수와 무관하게 목록 1회 + COUNT 1회)
+    public Page<InstructorResponse> getInstructors(String email, Pageable pageable) {
+        return userRepository.findInstructorPage(userIdentityResolver.requireOrganizationId(email), pageable);
     }
 
     @Transactional
-    public InstructorResponse createInstructor(InstructorRequest request) {
+    public InstructorResponse createInstructor(String email, InstructorRequest request) {
         // 실제 운영 시에는 Email 중복 체크 및 실제 계정 생성 로직 필요
         User instructor = User.builder()
                 .email(UUID.randomUUID().toString() + "@instructor.com")
                 .password("password")
                 .name(request.getName())
                 .role(User.Role.INSTRUCTOR)
+                .organization(organizationRepository.getReferenceById(userIdentityResolver.requireOrganizationId(email)))
                 .build();
         
         userRepository.save(instructor);
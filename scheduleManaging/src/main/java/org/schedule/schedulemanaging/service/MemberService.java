@@ -1,41 +1,68 @@
 package org.schedule.schedulemanaging.service;
 
 import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.response.CursorResponse;
+import org.schedule.schedulemanaging.dto.member.MemberCursor;
 import org.schedule.schedulemanaging.dto.member.MemberRequest;
 import org.schedule.schedulemanaging.dto.member.MemberResponse;
 import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
 import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserIdentityResolver userIdentityResolver;
+
+    /**
+     * 요청자 조직의 회원 목록 (이름순 키셋 페이지, keyword가 있으면 이름 접두어 검색).
+     */
+    public CursorResponse<MemberResponse> getMembers(String email, String cursor, String keyword, int size) {
+        Long organizationId = userIdentityResolver.requireOrganizationId(email);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1); // 1건 더 조회해 다음 페이지 존재 여부 판단
+
+        String prefix = keyword != null ? keyword.strip() : "";
+        MemberCursor after = cursor != null && !cursor.isBlank()
+                ? MemberCursor.decode(cursor)
+                : new MemberCursor(prefix, 0L);
 
-    public List<MemberResponse> getAllMembers() {
-        return userRepository.findAllByRole(User.Role.MEMBER).stream()
-                .map(user -> MemberResponse.builder()
-                        .id(user.getId())
-                        .name(user.getName())
-                        .phone("010-0000-0000") // User 엔티티에 phone 필드가 없으므로 임시 처리
-                        .build())
-                .collect(Collectors.toList());
+        List<MemberResponse> rows = prefix.isEmpty()
+                ? userRepository.findMemberPage(organizationId, after.name(), after.id(), limit)
+                : userRepository.searchMemberPage(organizationId, after.name(), after.id(),
+                        prefix + Character.MAX_VALUE, escapeLike(prefix) + "%", limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MemberResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MemberResponse last = items.get(items.size() - 1);
+            nextCursor = new MemberCursor(last.getName(), last.getId()).encode();
+        }
+        return new CursorResponse<>(items, nextCursor, hasNext);
     }
 
     @Transactional
-    public MemberResponse createMember(MemberRequest request) {
+    public MemberResponse createMember(String email, MemberRequest request) {
         User member = User.builder()
                 .email(UUID.randomUUID().toString() + "@member.com")
                 .password("password")
                 .name(request.getName())
                 .role(User.Role.MEMBER)
+                .organization(organizationRepository.getReferenceById(userIdentityResolver.requireOrganizationId(email)))
                 .build();
         
         userRepository.save(member);
@@ -46,4 +73,8 @@ public class MemberService {
                 .phone(request.getPhone())
                 .build();
     }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
@@ -1,9 +1,9 @@
 package org.schedule.schedulemanaging.service;
 
 import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.dto.settlement.InstructorSessionCount;
 import org.schedule.schedulemanaging.dto.settlement.SettlementResponse;
 import org.schedule.schedulemanaging.entity.InstructorSalaryConfig;
-import org.schedule.schedulemanaging.entity.Schedule;
 import org.schedule.schedulemanaging.entity.User;
 import org.schedule.schedulemanaging.repository.InstructorSalaryConfigRepository;
 import org.schedule.schedulemanaging.repository.ScheduleRepository;
@@ -13,7 +13,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,20 +28,30 @@ public class PayrollSettlementService {
     private final ScheduleRepository scheduleRepository;
     private final InstructorSalaryConfigRepository instructorSalaryConfigRepository;
 
+    /**
+     * 월별 강사 정산 조회.
+     * 강사 수·일정 수와 무관하게 강사 목록, 급여 설정, 수업 횟수 집계의 고정 3회 쿼리로 처리.
+     */
     public List<SettlementResponse> getMonthlySettlements(int year, int month) {
         LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
         LocalDateTime end = start.plusMonths(1);
 
-        return userRepository.findAllByRole(User.Role.INSTRUCTOR).stream()
+        List<User> instructors = userRepository.findAllByRole(User.Role.INSTRUCTOR);
+        if (instructors.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, InstructorSalaryConfig> configByInstructorId = instructorSalaryConfigRepository.findAllByInstructorIn(instructors).stream()
+                .collect(Collectors.toMap(config -> config.getInstructor().getId(), Function.identity()));
+
+        // 해당 기간 동안 강사별 진행 수업 횟수 (DB 집계)
+        Map<Long, Long> sessionCountByInstructorId = scheduleRepository.countSessionsGroupByInstructor(start, end).stream()
+                .collect(Collectors.toMap(InstructorSessionCount::getInstructorId, InstructorSessionCount::getSessionCount));
+
+        return instructors.stream()
                 .map(instructor -> {
-                    InstructorSalaryConfig config = instructorSalaryConfigRepository.findByInstructor(instructor)
-                            .orElse(null);
-                    
-                    // 해당 기간 동안 강사가 진행한 수업 횟수 조회
-                    long sessionCount = scheduleRepository.findAll().stream()
-                            .filter(s -> s.getInstructor().equals(instructor))
-                            .filter(s -> s.getStartTime().isAfter(start) && s.getStartTime().isBefore(end))
-                            .count();
+                    InstructorSalaryConfig config = configByInstructorId.get(instructor.getId());
+                    long sessionCount = sessionCountByInstructorId.getOrDefault(instructor.getId(), 0L);
 
                     BigDecimal basicPay = config != null ? config.getBaseSalary() : BigDecimal.ZERO;
                     BigDecimal rate = config != null ? config.getIncentivePerSession() : BigDecimal.ZERO;
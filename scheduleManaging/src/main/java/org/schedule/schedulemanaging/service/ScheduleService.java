@@ -3,17 +3,32 @@ package org.schedule.schedulemanaging.service;
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.common.exception.BaseException;
 import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.schedule.CalendarScheduleResponse;
 import org.schedule.schedulemanaging.dto.schedule.ScheduleRequest;
 import org.schedule.schedulemanaging.dto.schedule.ScheduleResponse;
+import org.schedule.schedulemanaging.dto.schedule.TimeSlotResponse;
 import org.schedule.schedulemanaging.entity.Schedule;
 import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
 import org.schedule.schedulemanaging.repository.ScheduleRepository;
 import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.schedule.schedulemanaging.security.UserPrincipal;
+import org.schedule.schedulemanaging.service.attendance.ParticipantRosterCache;
+import org.schedule.schedulemanaging.service.enrollment.EnrollmentService;
+import org.schedule.schedulemanaging.service.enrollment.SeatLedger;
+import org.schedule.schedulemanaging.service.schedule.InstructorIntervalIndex;
+import org.schedule.schedulemanaging.service.schedule.SeatAvailabilityFeed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 일정 관리 비즈니스 로직.
  */
@@ -22,8 +37,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ScheduleService {
 
+    // 월 보기(6주) 기준 최대 조회 기간
+    private static final Duration MAX_CALENDAR_RANGE = Duration.ofDays(42);
+
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserIdentityResolver userIdentityResolver;
+    private final SeatLedger seatLedger;
+    private final InstructorIntervalIndex intervalIndex;
+    private final ParticipantRosterCache rosterCache;
+    private final SeatAvailabilityFeed seatFeed;
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentRepository enrollmentRepository;
 
     @Transactional
     public Long createSchedule(String email, ScheduleRequest request) {
@@ -31,8 +57,8 @@ public class ScheduleService {
             throw new BaseException(ErrorCode.INVALID_TIME_RANGE);
         }
 
-        User instructor = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_CREDENTIALS));
+        UserPrincipal principal = userIdentityResolver.resolve(email);
+        User instructor = userRepository.getReferenceById(principal.getUserId());
 
         Schedule schedule = Schedule.builder()
                 .title(request.getTitle())
@@ -42,23 +68,28 @@ public class ScheduleService {
                 .startTime(request.getStartTime())
                 .endTime(request.getEndTime())
                 .instructor(instructor)
-                .organization(instructor.getOrganization())
+                .organization(principal.getOrganizationId() != null
+                        ? organizationRepository.getReferenceById(principal.getOrganizationId()) : null)
                 .build();
 
-        return scheduleRepository.save(schedule).getId();
+        Long id = scheduleRepository.save(schedule).getId();
+        // 조직 미소속 일정은 중복 배정 검사 대상 아님
+        if (principal.getOrganizationId() != null) {
+            intervalIndex.add(principal.getOrganizationId(), principal.getUserId(), id,
+                    request.getStartTime(), request.getEndTime());
+        }
+        return id;
     }
 
     public Page<ScheduleResponse> getSchedules(String email, Pageable pageable) {
-        User instructor = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_CREDENTIALS));
+        User instructor = currentUser(email);
 
         return scheduleRepository.findAllByInstructor(instructor, pageable)
                 .map(ScheduleResponse::from);
     }
 
     public ScheduleResponse getSchedule(String email, Long id) {
-        User instructor = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_CREDENTIALS));
+        User instructor = currentUser(email);
 
         Schedule schedule = scheduleRepository.findByIdAndInstructor(id, instructor)
                 .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
@@ -66,42 +97,89 @@ public class ScheduleService {
         return ScheduleResponse.from(schedule);
     }
 
+    /**
+     * 요청자 조직의 [from, to) 기간에 시작하는 일정 목록 (캘린더 주/월 보기).
+     */
+    public List<CalendarScheduleResponse> getCalendar(String email, LocalDateTime from, LocalDateTime to) {
+        validateCalendarRange(from, to);
+        return scheduleRepository.findCalendar(userIdentityResolver.requireOrganizationId(email), from, to);
+    }
+
+    public String getCalendarEtag(String email, LocalDateTime from, LocalDateTime to) {
+        validateCalendarRange(from, to);
+        return scheduleRepository.findCalendarVersion(userIdentityResolver.requireOrganizationId(email), from, to).toEtag();
+    }
+
     @Transactional
     public void updateSchedule(String email, Long id, ScheduleRequest request) {
         if (!request.isValidTime()) {
             throw new BaseException(ErrorCode.INVALID_TIME_RANGE);
         }
 
-        User instructor = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_CREDENTIALS));
+        User instructor = currentUser(email);
 
         Schedule schedule = scheduleRepository.findByIdAndInstructor(id, instructor)
                 .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        schedule = Schedule.builder()
-                .id(schedule.getId())
-                .title(request.getTitle())
-                .content(request.getContent())
-                .maxCapacity(request.getMaxCapacity())
-                .currentParticipants(schedule.getCurrentParticipants())
-                .startTime(request.getStartTime())
-                .endTime(request.getEndTime())
-                .instructor(instructor)
-                .organization(schedule.getOrganization())
-                .createdAt(schedule.getCreatedAt())
-                .build();
-        
-        scheduleRepository.save(schedule);
+        if (schedule.getOrganization() != null) {
+            intervalIndex.move(schedule.getOrganization().getId(), id,
+                    instructor.getId(), schedule.getStartTime(), schedule.getEndTime(),
+                    instructor.getId(), request.getStartTime(), request.getEndTime());
+        }
+
+        int previousCapacity = schedule.getMaxCapacity();
+        boolean startChanged = !schedule.getStartTime().equals(request.getStartTime());
+        // 변경 감지로 바뀐 컬럼만 UPDATE (version 조건 포함)
+        schedule.update(request.getTitle(), request.getContent(), request.getMaxCapacity(),
+                request.getStartTime(), request.getEndTime());
+        if (startChanged) {
+            enrollmentRepository.syncScheduleStartTime(List.of(id)); // 회원 이력 정렬 기준 사본 갱신
+        }
+        // 정원이 바뀌었을 수 있으므로 좌석 원장(LEDGER 모드)을 커밋 후 재적재하도록 무효화
+        seatLedger.invalidateAfterCommit(id);
+        seatFeed.markDirtyAfterCommit(id);
+        if (request.getMaxCapacity() > previousCapacity) {
+            enrollmentService.promoteWaitlistAfterCommit(id); // 늘어난 좌석만큼 대기자 승급
+        }
     }
 
     @Transactional
     public void deleteSchedule(String email, Long id) {
-        User instructor = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_CREDENTIALS));
+        User instructor = currentUser(email);
 
         Schedule schedule = scheduleRepository.findByIdAndInstructor(id, instructor)
                 .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
 
+        // 일정 행을 잠가 승급/대기 등록과 직렬화한 뒤 대기를 정리 (대기가 남으면 외래 키 위반으로 삭제 실패)
+        scheduleRepository.findByIdWithLock(id);
+        enrollmentService.cancelWaitlistForDeletion(schedule);
         scheduleRepository.delete(schedule);
+        rosterCache.evict(id);
+        if (schedule.getOrganization() != null) {
+            intervalIndex.removeAfterCommit(schedule.getOrganization().getId(), instructor.getId(), id, schedule.getStartTime());
+        }
+    }
+
+    /**
+     * 강사의 [from, to) 기간 중 minDuration 이상 비어 있는 시간대 (요청자 조직 기준).
+     */
+    public List<TimeSlotResponse> getFreeSlots(String email, Long instructorId,
+                                               LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        validateCalendarRange(from, to);
+        return intervalIndex.findFreeSlots(userIdentityResolver.requireOrganizationId(email), instructorId, from, to, minDuration);
+    }
+
+    // 사용자 조회 쿼리 없이 식별 정보로 프록시 참조만 생성
+    private User currentUser(String email) {
+        return userRepository.getReferenceById(userIdentityResolver.resolve(email).getUserId());
+    }
+
+    private void validateCalendarRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BaseException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        if (Duration.between(from, to).compareTo(MAX_CALENDAR_RANGE) > 0) {
+            throw new BaseException(ErrorCode.CALENDAR_RANGE_TOO_LARGE);
+        }
     }
 }
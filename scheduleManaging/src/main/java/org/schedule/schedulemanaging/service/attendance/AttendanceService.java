@@ -3,16 +3,19 @@ package org.schedule.schedulemanaging.service.attendance;
 import lombok.RequiredArgsConstructor;
 import org.schedule.schedulemanaging.common.exception.BaseException;
 import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.attendance.AttendanceBulkRequest;
 import org.schedule.schedulemanaging.dto.attendance.ParticipantResponse;
 import org.schedule.schedulemanaging.entity.Enrollment;
-import org.schedule.schedulemanaging.entity.Schedule;
 import org.schedule.schedulemanaging.repository.EnrollmentRepository;
 import org.schedule.schedulemanaging.repository.ScheduleRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,18 +24,26 @@ public class AttendanceService {
 
     private final ScheduleRepository scheduleRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final ParticipantRosterCache rosterCache;
 
+    /**
+     * 담당 강사의 일정 참여자 명단. 캐시 미스 시 조인 DTO 쿼리 한 번으로 조회.
+     * 명단이 비어 있을 때만 소유권/존재 여부를 따로 확인해 오류를 구분.
+     */
     public List<ParticipantResponse> getParticipants(String instructorEmail, Long scheduleId) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
+        List<ParticipantResponse> cached = rosterCache.get(scheduleId, instructorEmail);
+        if (cached != null) {
+            return cached;
+        }
 
-        if (!schedule.getInstructor().getEmail().equals(instructorEmail)) {
-            throw new BaseException(ErrorCode.ACCESS_DENIED_ORG);
+        long generation = rosterCache.generation(scheduleId);
+        List<ParticipantResponse> roster = enrollmentRepository.findRoster(scheduleId, instructorEmail);
+        if (roster.isEmpty() && !scheduleRepository.existsByIdAndInstructorEmail(scheduleId, instructorEmail)) {
+            throw new BaseException(ErrorCode.SCHEDULE_NOT_FOUND);
         }
 
-        return enrollmentRepository.findAllBySchedule(schedule).stream()
-                .map(ParticipantResponse::from)
-                .collect(Collectors.toList());
+        rosterCache.put(scheduleId, instructorEmail, roster, generation);
+        return roster;
     }
 
     @Transactional
@@ -45,5 +56,35 @@ public class AttendanceService {
         }
 
         enrollment.updateAttendance(status);
+        rosterCache.evict(enrollment.getSchedule().getId());
+    }
+
+    /**
+     * 한 일정의 출결을 일괄 기록. 소유권 확인 1회 + 상태별 UPDATE 1회(최대 3회)로 처리.
+     * 요청한 예약 중 하나라도 해당 일정의 것이 아니면 전체를 롤백.
+     * 같은 예약 ID가 여러 번 오면 마지막 상태를 적용.
+     */
+    @Transactional
+    public int markAttendanceBulk(String instructorEmail, Long scheduleId, AttendanceBulkRequest request) {
+        if (!scheduleRepository.existsByIdAndInstructorEmail(scheduleId, instructorEmail)) {
+            throw new BaseException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+
+        Map<Long, Enrollment.AttendanceStatus> latest = new LinkedHashMap<>();
+        for (AttendanceBulkRequest.Item item : request.getItems()) {
+            latest.put(item.getEnrollmentId(), item.getStatus());
+        }
+        Map<Enrollment.AttendanceStatus, List<Long>> byStatus = new EnumMap<>(Enrollment.AttendanceStatus.class);
+        latest.forEach((enrollmentId, status) -> byStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(enrollmentId));
+
+        int updated = 0;
+        for (Map.Entry<Enrollment.AttendanceStatus, List<Long>> entry : byStatus.entrySet()) {
+            updated += enrollmentRepository.updateAttendanceStatus(scheduleId, entry.getValue(), entry.getKey());
+        }
+        if (updated != latest.size()) {
+            throw new BaseException(ErrorCode.ENROLLMENT_NOT_FOUND);
+        }
+        rosterCache.evict(scheduleId);
+        return updated;
     }
 }
@@ -0,0 +1,88 @@
+package org.schedule.schedulemanaging.service.attendance;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.schedule.schedulemanaging.dto.attendance.ParticipantResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 일정별 참여자 명단 캐시 (노드 로컬: 다른 노드의 변경은 TTL 이내에서만 반영).
+ * 담당 강사 이메일을 함께 보관해 캐시 적중 시에도 소유권을 확인.
+ * 예약/출결 변경 시 evict로 무효화하며, 트랜잭션 안에서는 커밋 직후에도 한 번 더 무효화
+ * (커밋 전 다른 요청이 이전 명단을 다시 적재하는 경우 대비).
+ * 조회가 늦게 끝나 무효화 이후에 이전 명단을 넣지 않도록 일정별 세대 번호로 put을 확인:
+ * 조회 전에 generation()을 읽고, 그 사이 evict가 있었으면 put을 버림.
+ * 세대 번호는 일정 ID 해시로 나눈 고정 개수 슬롯에 보관 (같은 슬롯의 다른 일정 변경은 캐시 미스만 늘림).
+ */
+@Component
+public class ParticipantRosterCache {
+
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final Cache<Long, Roster> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    public ParticipantRosterCache(
+            @Value("${spring.attendance.roster-cache.size:2000}") long cacheSize,
+            @Value("${spring.attendance.roster-cache.ttl:10m}") Duration cacheTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 캐시된 명단. 없거나 다른 강사의 일정이면 null.
+     */
+    public List<ParticipantResponse> get(Long scheduleId, String instructorEmail) {
+        Roster roster = cache.getIfPresent(scheduleId);
+        return roster != null && roster.instructorEmail().equals(instructorEmail) ? roster.participants() : null;
+    }
+
+    /**
+     * 명단 조회 전에 읽는 세대 번호. put에 그대로 넘김.
+     */
+    public long generation(Long scheduleId) {
+        return generations.get(slot(scheduleId));
+    }
+
+    /**
+     * generation을 읽은 뒤 evict가 없었을 때만 명단 저장.
+     * evict는 세대 번호를 올린 뒤 항목을 지우므로, 같은 키의 compute 안에서 확인하면 지워진 뒤 이전 명단이 남지 않음.
+     */
+    public void put(Long scheduleId, String instructorEmail, List<ParticipantResponse> participants, long generation) {
+        Roster roster = new Roster(instructorEmail, List.copyOf(participants));
+        cache.asMap().compute(scheduleId, (id, current) -> generation(id) == generation ? roster : current);
+    }
+
+    public void evict(Long scheduleId) {
+        invalidate(scheduleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(scheduleId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long scheduleId) {
+        generations.incrementAndGet(slot(scheduleId));
+        cache.invalidate(scheduleId);
+    }
+
+    private static int slot(Long scheduleId) {
+        return Long.hashCode(scheduleId) & (GENERATION_SLOTS - 1);
+    }
+
+    private record Roster(String instructorEmail, List<ParticipantResponse> participants) {
+    }
+}
@@ -0,0 +1,78 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 모드별 경합 지표. (/actuator/metrics 로 조회)
+ * - enrollment.retries: 동시성 충돌로 트랜잭션을 재시도한 횟수
+ * - enrollment.conflicts: 동시성 충돌(낙관적 잠금 실패, 잠금 타임아웃, 데드락) 발생 횟수
+ * - enrollment.lock.wait: 좌석/회원권 행 잠금 또는 조건부 UPDATE에 걸린 시간
+ * 일정 ID를 태그로 쓰면 예약된 일정 수만큼 지표가 계속 늘어나므로 태그는 모드만 사용하고,
+ * 충돌이 몰린 일정은 크기 제한 캐시에 모아 주기적으로 상위 N개를 로그로 남김.
+ */
+@Slf4j
+@Component
+public class EnrollmentContentionMetrics {
+
+    private static final int HOT_SPOT_CAPACITY = 1_000;
+    private static final int HOT_SPOT_REPORT_SIZE = 10;
+
+    private final MeterRegistry meterRegistry;
+    // scheduleId -> 직전 보고 이후 충돌 횟수
+    private final Cache<Long, Long> conflictsBySchedule = Caffeine.newBuilder()
+            .maximumSize(HOT_SPOT_CAPACITY)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public EnrollmentContentionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordRetry(EnrollmentMode mode) {
+        meterRegistry.counter("enrollment.retries", "mode", mode.name()).increment();
+    }
+
+    public void recordConflict(Long scheduleId, EnrollmentMode mode) {
+        meterRegistry.counter("enrollment.conflicts", "mode", mode.name()).increment();
+        conflictsBySchedule.asMap().merge(scheduleId, 1L, Long::sum);
+    }
+
+    public <T> T recordLockWait(EnrollmentMode mode, Supplier<T> action) {
+        long startedNanos = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            meterRegistry.timer("enrollment.lock.wait", "mode", mode.name())
+                    .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.enrollment.hot-spot-report-interval-ms:60000}")
+    public void reportHotSpots() {
+        ConcurrentMap<Long, Long> counts = conflictsBySchedule.asMap();
+        if (counts.isEmpty()) {
+            return;
+        }
+        String top = counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(HOT_SPOT_REPORT_SIZE)
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+        // 보고한 만큼만 빼서 보고 도중 들어온 충돌은 다음 보고에 포함
+        counts.forEach((scheduleId, reported) -> counts.computeIfPresent(scheduleId,
+                (id, current) -> current - reported > 0 ? current - reported : null));
+        log.info("Enrollment conflict hot spots (schedule=conflicts): {}", top);
+    }
+}
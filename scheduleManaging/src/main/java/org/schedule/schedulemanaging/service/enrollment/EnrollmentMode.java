@@ -0,0 +1,13 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+/**
+ * 수강 예약 시 좌석(정원) 차감 방식.
+ */
+public enum EnrollmentMode {
+    // 일정/회원권 행에 PESSIMISTIC_WRITE 잠금 후 차감 (기본값)
+    PESSIMISTIC,
+    // 인메모리 좌석 원장에서 선점 후, 일정 행 갱신은 주기적으로 일괄 반영 (인기 수업 오픈 등 고경합 구간용)
+    LEDGER,
+    // 잠금 없이 조회 후 조건부 UPDATE(정원/잔여 횟수 검사 포함)로 차감, 충돌 시 재시도
+    OPTIMISTIC
+}
@@ -0,0 +1,45 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 수강 예약 동시성 제어 설정.
+ * 측정된 경합 지표를 보고 조직(테넌트)별로 좌석 차감 방식을 다르게 지정할 수 있음.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.enrollment")
+public class EnrollmentProperties {
+
+    private EnrollmentMode mode = EnrollmentMode.PESSIMISTIC;
+
+    // organizationId -> 모드 (미지정 조직은 mode 사용)
+    private Map<Long, EnrollmentMode> tenantModes = new HashMap<>();
+
+    private Retry retry = new Retry();
+
+    // 수업 시작 전 이 시간 이내에는 예약 취소 불가
+    private Duration cancelCutoff = Duration.ofHours(3);
+
+    public EnrollmentMode modeFor(Long organizationId) {
+        if (organizationId == null) {
+            return mode;
+        }
+        return tenantModes.getOrDefault(organizationId, mode);
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        // 낙관적 잠금 충돌, 잠금 대기 타임아웃, 데드락 발생 시 트랜잭션 재시도 한도
+        private int maxAttempts = 5;
+        private Duration initialBackoff = Duration.ofMillis(10);
+        private Duration maxBackoff = Duration.ofMillis(200);
+    }
+}
@@ -1,75 +1,518 @@
 package org.schedule.schedulemanaging.service.enrollment;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.schedule.schedulemanaging.common.exception.BaseException;
 import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.enrollment.EnrollmentResponse;
+import org.schedule.schedulemanaging.dto.membership.MembershipBalance;
 import org.schedule.schedulemanaging.entity.Enrollment;
 import org.schedule.schedulemanaging.entity.Membership;
 import org.schedule.schedulemanaging.entity.Schedule;
 import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.entity.WaitlistEntry;
 import org.schedule.schedulemanaging.repository.EnrollmentRepository;
 import org.schedule.schedulemanaging.repository.MembershipRepository;
 import org.schedule.schedulemanaging.repository.ScheduleRepository;
 import org.schedule.schedulemanaging.repository.UserRepository;
-import org.schedule.schedulemanaging.service.notification.NotificationService;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.schedule.schedulemanaging.repository.WaitlistEntryRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.schedule.schedulemanaging.security.UserPrincipal;
+import org.schedule.schedulemanaging.service.attendance.ParticipantRosterCache;
+import org.schedule.schedulemanaging.service.membership.MembershipBalanceService;
+import org.schedule.schedulemanaging.service.notification.NotificationOutboxService;
+import org.schedule.schedulemanaging.service.schedule.SeatAvailabilityFeed;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 public class EnrollmentService {
 
+    // 한 번의 승급 실행에서 처리할 최대 인원 (정원 대폭 증가 시에도 실행 시간 제한)
+    private static final int MAX_PROMOTIONS_PER_RUN = 200;
+
+    private static final String UK_ENROLLMENT = "uk_schedule_member";
+    private static final String UK_WAITLIST = "uk_waitlist_schedule_member";
+
+    private enum Promotion { PROMOTED, NO_SEAT, NO_WAITER }
+
     private final ScheduleRepository scheduleRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
     private final MembershipRepository membershipRepository;
-    private final NotificationService fcmService;
+    private final MembershipBalanceService balanceService;
+    private final UserIdentityResolver userIdentityResolver;
+    private final NotificationOutboxService outboxService;
+    private final SeatLedger seatLedger;
+    private final EnrollmentProperties properties;
+    private final EnrollmentContentionMetrics metrics;
+    private final ParticipantRosterCache rosterCache;
+    private final SeatAvailabilityFeed seatFeed;
+    private final WaitlistEntryRepository waitlistRepository;
+    private final WaitlistIndex waitlistIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ExecutorService promotionExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("waitlist-promotion-", 0).factory());
 
     public EnrollmentService(
             ScheduleRepository scheduleRepository,
             EnrollmentRepository enrollmentRepository,
             UserRepository userRepository,
             MembershipRepository membershipRepository,
-            @Qualifier("fcmNotificationService") NotificationService fcmService) {
+            MembershipBalanceService balanceService,
+            UserIdentityResolver userIdentityResolver,
+            NotificationOutboxService outboxService,
+            SeatLedger seatLedger,
+            EnrollmentProperties properties,
+            EnrollmentContentionMetrics metrics,
+            ParticipantRosterCache rosterCache,
+            SeatAvailabilityFeed seatFeed,
+            WaitlistEntryRepository waitlistRepository,
+            WaitlistIndex waitlistIndex,
+            PlatformTransactionManager transactionManager,
+            Clock clock) {
         this.scheduleRepository = scheduleRepository;
         this.enrollmentRepository = enrollmentRepository;
         this.userRepository = userRepository;
         this.membershipRepository = membershipRepository;
-        this.fcmService = fcmService;
+        this.balanceService = balanceService;
+        this.userIdentityResolver = userIdentityResolver;
+        this.outboxService = outboxService;
+        this.seatLedger = seatLedger;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.rosterCache = rosterCache;
+        this.seatFeed = seatFeed;
+        this.waitlistRepository = waitlistRepository;
+        this.waitlistIndex = waitlistIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
     }
 
-    @Transactional
-    public void enroll(String email, Long scheduleId) {
-        User member = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_CREDENTIALS));
+    /**
+     * 수강 예약. 동시성 충돌(낙관적 잠금 실패, 잠금 타임아웃, 데드락) 시 트랜잭션 전체를 지수 백오프로 재시도.
+     * 정원이 찼거나 이미 대기자가 있으면 실패 대신 대기열에 등록하고 WAITLISTED 반환.
+     */
+    public EnrollmentResponse enroll(String email, Long scheduleId) {
+        return withRetry(email, scheduleId, () -> transactionTemplate.execute(status -> enrollInTransaction(email, scheduleId)));
+    }
 
-        Schedule schedule = scheduleRepository.findByIdWithLock(scheduleId)
+    /**
+     * 예약 취소. 수업 시작 cancelCutoff 이전까지만 가능하며, 예약과 같은 모드별 방식으로 좌석을 반환하고
+     * 차감했던 회원권 1회를 돌려줌. 빈 좌석이 생기면 커밋 후 대기자 승급.
+     */
+    public void cancel(String email, Long scheduleId) {
+        withRetry(email, scheduleId, () -> {
+            transactionTemplate.executeWithoutResult(status -> cancelInTransaction(email, scheduleId));
+            return null;
+        });
+    }
+
+    private <T> T withRetry(String email, Long scheduleId, Supplier<T> action) {
+        EnrollmentMode mode = properties.modeFor(userIdentityResolver.resolve(email).getOrganizationId());
+        EnrollmentProperties.Retry retry = properties.getRetry();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                metrics.recordConflict(scheduleId, mode);
+                if (attempt >= retry.getMaxAttempts()) {
+                    log.warn("Enrollment gave up after {} attempts on schedule {}: {}", attempt, scheduleId, e.getMessage());
+                    throw new BaseException(ErrorCode.ENROLLMENT_CONFLICT);
+                }
+                metrics.recordRetry(mode);
+                backoff(attempt, retry);
+            } catch (DataIntegrityViolationException e) {
+                throw translateDuplicate(e);
+            }
+        }
+    }
+
+    // 같은 회원의 동시 요청은 둘 다 존재 확인을 통과할 수 있으므로 유니크 제약 위반을 중복 예약/대기 오류로 변환
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+        String constraint = violatedConstraint(e);
+        if (constraint != null && constraint.equalsIgnoreCase(UK_ENROLLMENT)) {
+            return new BaseException(ErrorCode.ALREADY_ENROLLED);
+        }
+        if (constraint != null && constraint.equalsIgnoreCase(UK_WAITLIST)) {
+            return new BaseException(ErrorCode.ALREADY_WAITLISTED);
+        }
+        return e;
+    }
+
+    private static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+
+    private EnrollmentResponse enrollInTransaction(String email, Long scheduleId) {
+        UserPrincipal principal = userIdentityResolver.resolve(email);
+        User member = userRepository.getReferenceById(principal.getUserId());
+
+        EnrollmentMode mode = properties.modeFor(principal.getOrganizationId());
+
+        // PESSIMISTIC 모드만 일정 행을 잠그고, 나머지 모드는 잠금 없이 조회 (좌석 차감은 각 모드 방식으로 처리)
+        Schedule schedule = (mode == EnrollmentMode.PESSIMISTIC
+                ? metrics.recordLockWait(mode, () -> scheduleRepository.findByIdWithLock(scheduleId))
+                : scheduleRepository.findById(scheduleId))
                 .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
 
-        if (!schedule.getOrganization().equals(member.getOrganization())) {
+        // 프록시 초기화 없이 ID로 비교
+        if (schedule.getOrganization() == null
+                || !Objects.equals(schedule.getOrganization().getId(), principal.getOrganizationId())) {
             throw new BaseException(ErrorCode.ACCESS_DENIED_ORG);
         }
 
         if (enrollmentRepository.existsByScheduleAndMember(schedule, member)) {
             throw new BaseException(ErrorCode.ALREADY_ENROLLED);
         }
+        if (waitlistRepository.existsByScheduleIdAndMemberId(scheduleId, member.getId())) {
+            throw new BaseException(ErrorCode.ALREADY_WAITLISTED);
+        }
 
-        Membership membership = membershipRepository.findActiveMembershipWithLock(member, schedule.getOrganization())
-                .orElseThrow(() -> new BaseException(ErrorCode.MEMBERSHIP_NOT_FOUND));
+        // 대기자가 있으면 빈 좌석이 있어도 새치기하지 않고 대기열 뒤에 등록 (좌석은 승급으로 순서대로 배정)
+        if (waitlistIndex.hasWaiters(scheduleId)) {
+            EnrollmentResponse response = joinWaitlist(schedule, member);
+            promoteWaitlistAfterCommit(scheduleId);
+            return response;
+        }
+        if (!admit(mode, schedule, member, principal.getDisplayName(), false)) {
+            return joinWaitlist(schedule, member);
+        }
+        return EnrollmentResponse.enrolled(scheduleId);
+    }
 
-        schedule.addParticipant();
-        membership.usePass();
+    /**
+     * 좌석 확보 + 회원권 차감 + 예약 저장 + 알림 기록. 좌석이 없으면 아무것도 차감하지 않고 false.
+     * 회원권이 없거나 차감할 수 없으면 BaseException (트랜잭션 롤백).
+     * LEDGER/OPTIMISTIC 모드는 회원권 행을 읽거나 잠그지 않고 잔여 횟수 캐시 확인 후 조건부 UPDATE로 차감.
+     */
+    private boolean admit(EnrollmentMode mode, Schedule schedule, User member, String memberName, boolean promoted) {
+        Long scheduleId = schedule.getId();
+        Membership membership;
+        switch (mode) {
+            case PESSIMISTIC -> {
+                LocalDate today = balanceService.today();
+                membership = metrics.recordLockWait(mode,
+                                () -> membershipRepository.findActiveMembershipWithLock(member, schedule.getOrganization(), today))
+                        .orElseThrow(() -> new BaseException(ErrorCode.MEMBERSHIP_NOT_FOUND));
+                if (schedule.getCurrentParticipants() >= schedule.getMaxCapacity()) {
+                    return false;
+                }
+                schedule.addParticipant();
+                membership.usePass(today);
+            }
+            case LEDGER -> {
+                // 회원권이 없는 회원이 좌석을 선점했다가 롤백하지 않도록 좌석 확보 전에 캐시로 확인
+                balanceService.requireBookable(member.getId(), schedule.getOrganization().getId());
+                if (!reserveSeatFromLedger(scheduleId)) {
+                    return false;
+                }
+                membership = usePass(member, schedule, mode);
+            }
+            case OPTIMISTIC -> {
+                balanceService.requireBookable(member.getId(), schedule.getOrganization().getId());
+                if (!incrementSeatConditionally(schedule, mode)) {
+                    return false;
+                }
+                membership = usePass(member, schedule, mode);
+            }
+            default -> throw new IllegalStateException("Unknown enrollment mode: " + mode);
+        }
 
         enrollmentRepository.save(Enrollment.builder()
                 .schedule(schedule)
                 .member(member)
-                .enrolledAt(LocalDateTime.now())
+                .membership(membership)
+                .enrolledAt(LocalDateTime.now(clock))
+                .scheduleStartTime(schedule.getStartTime())
                 .attendanceStatus(Enrollment.AttendanceStatus.PENDING)
                 .build());
+        rosterCache.evict(scheduleId);
+        if (mode != EnrollmentMode.LEDGER) {
+            seatFeed.markDirtyAfterCommit(scheduleId); // LEDGER 모드는 DB 반영(flush) 시점에 표시
+        }
+
+        // 예약과 같은 트랜잭션에 기록 -> 롤백(재시도 포함)된 예약은 알림이 나가지 않음
+        if (promoted) {
+            outboxService.enqueuePush(member.getId(), "대기 예약 확정", schedule.getTitle() + " 수업에 자리가 나서 예약이 확정되었습니다.");
+        } else {
+            outboxService.enqueuePush(member.getId(), "예약 완료", schedule.getTitle() + " 수업 예약이 완료되었습니다.");
+        }
+        outboxService.enqueuePush(schedule.getInstructor().getId(), "신규 예약 발생", memberName + "님이 수업에 참여합니다.");
+        return true;
+    }
+
+    private void cancelInTransaction(String email, Long scheduleId) {
+        UserPrincipal principal = userIdentityResolver.resolve(email);
+        User member = userRepository.getReferenceById(principal.getUserId());
+
+        EnrollmentMode mode = properties.modeFor(principal.getOrganizationId());
+
+        Schedule schedule = (mode == EnrollmentMode.PESSIMISTIC
+                ? metrics.recordLockWait(mode, () -> scheduleRepository.findByIdWithLock(scheduleId))
+                : scheduleRepository.findById(scheduleId))
+                .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
+
+        if (schedule.getOrganization() == null
+                || !Objects.equals(schedule.getOrganization().getId(), principal.getOrganizationId())) {
+            throw new BaseException(ErrorCode.ACCESS_DENIED_ORG);
+        }
+        if (!LocalDateTime.now(clock).isBefore(schedule.getStartTime().minus(properties.getCancelCutoff()))) {
+            throw new BaseException(ErrorCode.CANCEL_WINDOW_CLOSED);
+        }
+
+        Enrollment enrollment = enrollmentRepository.findByScheduleIdAndMemberId(scheduleId, member.getId())
+                .orElseThrow(() -> new BaseException(ErrorCode.ENROLLMENT_NOT_FOUND));
+        // 삭제에 성공한 트랜잭션만 반환 처리 (동시에 들어온 중복 취소는 여기서 걸러짐)
+        if (enrollmentRepository.deleteByIdReturningCount(enrollment.getId()) == 0) {
+            throw new BaseException(ErrorCode.ENROLLMENT_NOT_FOUND);
+        }
+        Long membershipId = enrollment.getMembership() != null ? enrollment.getMembership().getId() : null;
+
+        switch (mode) {
+            case PESSIMISTIC -> {
+                schedule.removeParticipant();
+                lockMembershipForRefund(membershipId, member, schedule).ifPresent(Membership::refundPass);
+            }
+            case LEDGER -> {
+                refundPass(membershipId, member, schedule);
+                seatLedger.returnSeatAfterCommit(scheduleId);
+            }
+            case OPTIMISTIC -> {
+                metrics.recordLockWait(mode, () -> scheduleRepository.decrementParticipantsIfPositive(scheduleId));
+                refundPass(membershipId, member, schedule);
+            }
+        }
+
+        rosterCache.evict(scheduleId);
+        if (mode != EnrollmentMode.LEDGER) {
+            seatFeed.markDirtyAfterCommit(scheduleId);
+        }
+        promoteWaitlistAfterCommit(scheduleId);
+
+        outboxService.enqueuePush(member.getId(), "예약 취소", schedule.getTitle() + " 수업 예약이 취소되었습니다. 사용한 회원권 1회가 반환되었습니다.");
+        outboxService.enqueuePush(schedule.getInstructor().getId(), "예약 취소 발생", principal.getDisplayName() + "님이 수업 예약을 취소했습니다.");
+    }
+
+    // 예약에 기록된 회원권을 잠가서 반환 (이전 예약은 현재 유효한 회원권으로 반환)
+    private Optional<Membership> lockMembershipForRefund(Long membershipId, User member, Schedule schedule) {
+        return membershipId != null
+                ? membershipRepository.findByIdWithLock(membershipId)
+                : membershipRepository.findActiveMembershipWithLock(member, schedule.getOrganization(), balanceService.today());
+    }
 
-        fcmService.send(member.getFcmToken(), "예약 완료", schedule.getTitle() + " 수업 예약이 완료되었습니다.");
-        fcmService.send(schedule.getInstructor().getFcmToken(), "신규 예약 발생", member.getName() + "님이 수업에 참여합니다.");
+    // 예약에 기록된 회원권에 조건부 UPDATE로 반환 (이전 예약은 현재 유효한 회원권으로 반환)
+    private void refundPass(Long membershipId, User member, Schedule schedule) {
+        Long organizationId = schedule.getOrganization().getId();
+        Long refundId = membershipId != null ? membershipId
+                : balanceService.findActiveMembershipId(member.getId(), organizationId).orElse(null);
+        if (refundId != null) {
+            balanceService.refund(refundId, member.getId(), organizationId);
+        }
+    }
+
+    // 대기 등록은 사용 가능한 회원권이 있을 때만 허용 (승급 시 차감 실패로 밀려나는 대기자를 줄임)
+    private EnrollmentResponse joinWaitlist(Schedule schedule, User member) {
+        balanceService.requireBookable(member.getId(), schedule.getOrganization().getId());
+
+        WaitlistEntry entry = waitlistRepository.save(WaitlistEntry.builder()
+                .schedule(schedule)
+                .member(member)
+                .build());
+        waitlistIndex.addAfterCommit(schedule.getId(), entry.getId(), member.getId());
+
+        int position = (int) waitlistRepository.countByScheduleIdAndIdLessThanEqual(schedule.getId(), entry.getId());
+        outboxService.enqueuePush(member.getId(), "예약 대기 등록",
+                schedule.getTitle() + " 수업 예약 대기 " + position + "번째로 등록되었습니다. 자리가 나면 자동으로 예약됩니다.");
+        return EnrollmentResponse.waitlisted(schedule.getId(), position);
+    }
+
+    /**
+     * 예약 대기 취소.
+     */
+    public void leaveWaitlist(String email, Long scheduleId) {
+        UserPrincipal principal = userIdentityResolver.resolve(email);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (waitlistRepository.deleteByScheduleIdAndMemberId(scheduleId, principal.getUserId()) == 0) {
+                throw new BaseException(ErrorCode.WAITLIST_NOT_FOUND);
+            }
+            waitlistIndex.removeMemberAfterCommit(scheduleId, principal.getUserId());
+        });
+    }
+
+    /**
+     * 좌석이 생긴 트랜잭션(예약 취소, 정원 증가)이 커밋된 뒤 대기열 승급을 비동기로 실행.
+     * 대기자가 없으면 아무것도 하지 않음.
+     */
+    public void promoteWaitlistAfterCommit(Long scheduleId) {
+        if (!waitlistIndex.hasWaiters(scheduleId)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            promotionExecutor.execute(() -> promoteWaitlist(scheduleId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                promotionExecutor.execute(() -> promoteWaitlist(scheduleId));
+            }
+        });
+    }
+
+    /**
+     * 빈 좌석이 없어지거나 대기자가 없을 때까지 선두부터 한 명씩 승급 (한 명당 트랜잭션 하나).
+     * 회원권이 없어져 승급할 수 없는 대기자는 알림 후 대기열에서 제외하고 다음 대기자로 진행.
+     */
+    public void promoteWaitlist(Long scheduleId) {
+        for (int promotions = 0; promotions < MAX_PROMOTIONS_PER_RUN; promotions++) {
+            AtomicLong headId = new AtomicLong();
+            Promotion outcome;
+            try {
+                outcome = transactionTemplate.execute(status -> promoteHead(scheduleId, headId));
+            } catch (BaseException e) {
+                if (headId.get() == 0 || !isMembershipError(e.getErrorCode())) {
+                    log.warn("Waitlist promotion stopped on schedule {}: {}", scheduleId, e.getErrorCode());
+                    return;
+                }
+                dropWaiter(scheduleId, headId.get(), e.getErrorCode());
+                continue;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                // 다음 좌석 반환 또는 주기 점검 때 다시 시도 (그 사이 직접 예약한 대기자는 다음 승급에서 대기열만 정리됨)
+                log.warn("Waitlist promotion conflicted on schedule {}: {}", scheduleId, e.getMessage());
+                return;
+            }
+            if (outcome != Promotion.PROMOTED) {
+                return;
+            }
+        }
+    }
+
+    private Promotion promoteHead(Long scheduleId, AtomicLong headId) {
+        // 승급은 모드와 관계없이 일정 행을 잠가 같은 일정의 승급을 직렬화 (대기 순서 보장)
+        Schedule schedule = scheduleRepository.findByIdWithLock(scheduleId)
+                .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
+        WaitlistEntry head = waitlistRepository.findHeadForUpdate(scheduleId).orElse(null);
+        if (head == null) {
+            return Promotion.NO_WAITER;
+        }
+        headId.set(head.getId());
+
+        User member = head.getMember();
+        if (!enrollmentRepository.existsByScheduleAndMember(schedule, member)) {
+            EnrollmentMode mode = properties.modeFor(schedule.getOrganization() != null ? schedule.getOrganization().getId() : null);
+            if (!admit(mode, schedule, member, member.getName(), true)) {
+                return Promotion.NO_SEAT;
+            }
+        }
+        waitlistRepository.delete(head);
+        waitlistIndex.removeAfterCommit(scheduleId, head.getId());
+        return Promotion.PROMOTED;
+    }
+
+    /**
+     * 삭제할 일정의 예약 대기를 일괄 삭제하고 대기자에게 알림 (호출자 트랜잭션에 참여, 일정 삭제 전에 호출).
+     * 알림은 같은 트랜잭션의 아웃박스에 기록되므로 일정 삭제가 롤백되면 나가지 않음.
+     */
+    public int cancelWaitlistForDeletion(Schedule schedule) {
+        Long scheduleId = schedule.getId();
+        List<Long> memberIds = waitlistRepository.findMemberIdsByScheduleId(scheduleId);
+        if (!memberIds.isEmpty()) {
+            waitlistRepository.deleteByScheduleId(scheduleId);
+            for (Long memberId : memberIds) {
+                outboxService.enqueuePush(memberId, "예약 대기 취소",
+                        schedule.getTitle() + " 수업이 삭제되어 예약 대기가 취소되었습니다.");
+            }
+        }
+        waitlistIndex.evictAfterCommit(scheduleId);
+        return memberIds.size();
+    }
+
+    private void dropWaiter(Long scheduleId, Long entryId, ErrorCode reason) {
+        transactionTemplate.executeWithoutResult(status -> waitlistRepository.findById(entryId).ifPresent(entry -> {
+            waitlistRepository.delete(entry);
+            waitlistIndex.removeAfterCommit(scheduleId, entryId);
+            outboxService.enqueuePush(entry.getMember().getId(), "예약 대기 취소",
+                    entry.getSchedule().getTitle() + " 수업 예약 대기가 취소되었습니다. (" + reason.getMessage() + ")");
+        }));
+        log.info("Dropped waitlist entry {} on schedule {}: {}", entryId, scheduleId, reason);
+    }
+
+    private boolean isMembershipError(ErrorCode errorCode) {
+        return errorCode == ErrorCode.MEMBERSHIP_NOT_FOUND
+                || errorCode == ErrorCode.INSUFFICIENT_PASSES
+                || errorCode == ErrorCode.MEMBERSHIP_EXPIRED;
+    }
+
+    // 다른 노드에서 풀린 좌석, 커밋 직후 실패한 승급 등을 DB 기준으로 보완
+    @Scheduled(fixedDelayString = "${spring.enrollment.waitlist.sweep-interval-ms:60000}")
+    public void sweepWaitlists() {
+        for (Long scheduleId : waitlistRepository.findScheduleIdsWithWaiters(LocalDateTime.now(clock))) {
+            waitlistIndex.reload(scheduleId);
+            promoteWaitlist(scheduleId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        promotionExecutor.shutdown();
+    }
+
+    // 이후 예외로 롤백되면 선점한 좌석은 원장에 자동 반환됨
+    private boolean reserveSeatFromLedger(Long scheduleId) {
+        return seatLedger.tryReserve(scheduleId, () -> scheduleRepository.findAvailableSeats(scheduleId)
+                .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND)));
+    }
+
+    private boolean incrementSeatConditionally(Schedule schedule, EnrollmentMode mode) {
+        int updated = metrics.recordLockWait(mode,
+                () -> scheduleRepository.incrementParticipantsIfAvailable(schedule.getId()));
+        return updated > 0;
+    }
+
+    // 예약에는 차감된 회원권을 FK로만 기록 (엔티티를 적재하지 않음)
+    private Membership usePass(User member, Schedule schedule, EnrollmentMode mode) {
+        MembershipBalance used = metrics.recordLockWait(mode,
+                () -> balanceService.usePass(member.getId(), schedule.getOrganization().getId()));
+        return membershipRepository.getReferenceById(used.membershipId());
+    }
+
+    private void backoff(int attempt, EnrollmentProperties.Retry retry) {
+        long maxMillis = retry.getMaxBackoff().toMillis();
+        long delay = Math.min(maxMillis, retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        // 동시에 충돌한 요청들이 같은 시점에 재시도하지 않도록 지터 적용
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        try {
+            Thread.sleep(jittered);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ErrorCode.ENROLLMENT_CONFLICT);
+        }
     }
 }
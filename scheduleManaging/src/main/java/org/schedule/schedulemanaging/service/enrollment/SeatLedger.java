@@ -0,0 +1,333 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.service.schedule.SeatAvailabilityFeed;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 고경합 예약 모드(LEDGER)용 인프로세스 좌석 원장.
+ * - 일정별 잔여 좌석을 AtomicInteger로 보관하고 CAS로 선점하여, 일정 행 잠금 대기(커넥션 점유) 없이 정원 초과를 차단
+ * - 커밋된 좌석 증감은 일정별로 모아 두었다가 flush 주기마다 조건부 UPDATE 한 번으로 반영
+ * - 조건부 UPDATE가 실패하면(다른 경로에서 변경 등) 예약 건수 기준으로 재집계 후 원장을 다시 적재
+ * 원장은 노드 로컬 상태이므로, 해당 모드는 일정별 예약 요청이 한 노드로 라우팅되는 환경에서만 사용해야 함.
+ *
+ * 원장 적재(DB 잔여 좌석 - 미반영 커밋분 - 진행 중 선점분)가 중간 상태를 읽지 않도록,
+ * 선점(좌석 차감 + 진행 중 기록), 커밋 기록(미반영분 증가 + 진행 중 감소), 좌석 반환은 읽기 잠금으로 각각 한 단위로 묶고
+ * 적재/무효화/재집계는 쓰기 잠금으로 실행. 읽기 잠금끼리는 서로 막지 않으므로 선점은 여전히 CAS로만 경합.
+ */
+@Slf4j
+@Component
+public class SeatLedger {
+
+    // 재집계 전 진행 중인 예약/취소 트랜잭션이 끝나기를 기다리는 최대 시간
+    private static final long RECONCILE_DRAIN_TIMEOUT_MILLIS = 5_000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final SeatAvailabilityFeed seatFeed;
+    private final TransactionTemplate transactionTemplate;
+
+    // scheduleId -> 잔여 좌석
+    private final Map<Long, AtomicInteger> remainingSeats = new ConcurrentHashMap<>();
+    // scheduleId -> 선점했지만 아직 커밋/롤백되지 않은 좌석 수
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+    // scheduleId -> 커밋 대기 중인 취소 수 (재집계 시 커밋됐지만 아직 반환 기록 전인 취소를 구분하기 위함)
+    private final Map<Long, Integer> inFlightReturns = new ConcurrentHashMap<>();
+    // scheduleId -> 커밋되었지만 아직 DB(current_participants)에 반영되지 않은 증감분
+    private final Map<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+    // flush(미반영분 제거 ~ DB 반영)와 원장 적재가 서로의 중간 상태를 읽지 않도록 직렬화
+    private final Object flushLock = new Object();
+    private final ReadWriteLock ledgerLock = new ReentrantReadWriteLock();
+
+    public SeatLedger(ScheduleRepository scheduleRepository,
+                      EnrollmentRepository enrollmentRepository,
+                      SeatAvailabilityFeed seatFeed,
+                      PlatformTransactionManager transactionManager) {
+        this.scheduleRepository = scheduleRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.seatFeed = seatFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 좌석 1개를 선점. 처음 조회되는 일정이면 availableSeats(DB 기준 잔여 좌석)로 원장을 적재하며,
+     * 아직 DB에 반영되지 않은 커밋분과 진행 중인 선점분을 빼서 정원 초과를 방지.
+     * 현재 트랜잭션이 있으면 커밋 시 DB 반영 대기열에 넣고, 롤백 시 좌석을 반환.
+     */
+    public boolean tryReserve(Long scheduleId, IntSupplier availableSeats) {
+        while (true) {
+            AtomicInteger seats = remainingSeats.get(scheduleId);
+            if (seats == null) {
+                seats = load(scheduleId, availableSeats);
+            }
+            Lock lock = ledgerLock.readLock();
+            lock.lock();
+            try {
+                // 그 사이 무효화/재적재되었으면 새 원장 기준으로 다시 시도
+                if (remainingSeats.get(scheduleId) != seats) {
+                    continue;
+                }
+                if (!decrement(seats)) {
+                    return false;
+                }
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    add(inFlight, scheduleId, 1);
+                    registerCompletion(scheduleId, seats);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private AtomicInteger load(Long scheduleId, IntSupplier availableSeats) {
+        synchronized (flushLock) {
+            Lock lock = ledgerLock.writeLock();
+            lock.lock();
+            try {
+                return remainingSeats.computeIfAbsent(scheduleId,
+                        id -> new AtomicInteger(availableSeats.getAsInt() - count(pendingDeltas, id) - count(inFlight, id)));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean decrement(AtomicInteger seats) {
+        int current;
+        do {
+            current = seats.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!seats.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    // 롤백 시 선점한 원장(reservedFrom)에 좌석을 돌려줌. 그 사이 원장이 재적재되었다면 새 원장은 적재 시점에
+    // 이 선점을 진행 중 선점분으로 이미 빼 두었으므로 새 원장에 돌려주고, 원장이 비어 있으면 다음 적재가
+    // 진행 중 감소 이후 값을 읽으므로 돌려주지 않음
+    private void registerCompletion(Long scheduleId, AtomicInteger reservedFrom) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Lock lock = ledgerLock.readLock();
+                lock.lock();
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        add(pendingDeltas, scheduleId, 1);
+                    } else {
+                        AtomicInteger current = remainingSeats.get(scheduleId);
+                        if (current == reservedFrom) {
+                            reservedFrom.incrementAndGet();
+                        } else if (current != null) {
+                            current.incrementAndGet(); // 재적재된 원장 (이 선점을 이미 차감함)
+                        }
+                    }
+                    add(inFlight, scheduleId, -1);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    public void release(Long scheduleId) {
+        AtomicInteger seats = remainingSeats.get(scheduleId);
+        if (seats != null) {
+            seats.incrementAndGet();
+        }
+    }
+
+    public void recordCommitted(Long scheduleId, int delta) {
+        Lock lock = ledgerLock.readLock();
+        lock.lock();
+        try {
+            add(pendingDeltas, scheduleId, delta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약 취소로 좌석 1개 반환. 커밋 후 원장 잔여 좌석을 늘리고 DB 반영 대기열에 -1을 기록
+     * (두 값을 한 단위로 바꿔 그 사이에 원장이 재적재되며 좌석이 이중 계산되지 않도록 함).
+     */
+    public void returnSeatAfterCommit(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            returnSeat(scheduleId, false);
+            return;
+        }
+        add(inFlightReturns, scheduleId, 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    returnSeat(scheduleId, true);
+                } else {
+                    add(inFlightReturns, scheduleId, -1);
+                }
+            }
+        });
+    }
+
+    private void returnSeat(Long scheduleId, boolean tracked) {
+        Lock lock = ledgerLock.readLock();
+        lock.lock();
+        try {
+            release(scheduleId);
+            add(pendingDeltas, scheduleId, -1);
+            if (tracked) {
+                add(inFlightReturns, scheduleId, -1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정원 변경 등으로 원장 값이 무효가 된 경우 호출. 다음 예약 시 DB 기준으로 다시 적재됨.
+     */
+    public void invalidate(Long scheduleId) {
+        Lock lock = ledgerLock.writeLock();
+        lock.lock();
+        try {
+            remainingSeats.remove(scheduleId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정원 변경이 커밋된 뒤 원장을 비움. (커밋 전 재적재 시 이전 정원을 읽는 것을 방지)
+     */
+    public void invalidateAfterCommit(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(scheduleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(scheduleId);
+            }
+        });
+    }
+
+    public int remaining(Long scheduleId) {
+        AtomicInteger seats = remainingSeats.get(scheduleId);
+        return seats != null ? seats.get() : -1;
+    }
+
+    // 아직 DB에 반영되지 않은 커밋분 (테스트/점검용)
+    int pendingDelta(Long scheduleId) {
+        return count(pendingDeltas, scheduleId);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.enrollment.ledger.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            for (Long scheduleId : pendingDeltas.keySet()) {
+                Integer removed = removePending(scheduleId);
+                if (removed == null) {
+                    continue;
+                }
+                int delta = removed;
+                try {
+                    Boolean applied = transactionTemplate.execute(status -> scheduleRepository.applyParticipantDelta(scheduleId, delta) > 0);
+                    if (!Boolean.TRUE.equals(applied)) {
+                        reconcile(scheduleId, delta);
+                    }
+                    seatFeed.markDirty(scheduleId);
+                } catch (RuntimeException e) {
+                    // 반영 실패분은 다음 주기에 다시 시도
+                    recordCommitted(scheduleId, delta);
+                    log.error("Failed to flush seat delta for schedule {}: {}", scheduleId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Integer removePending(Long scheduleId) {
+        Lock lock = ledgerLock.readLock();
+        lock.lock();
+        try {
+            return pendingDeltas.remove(scheduleId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약(Enrollment) 건수를 기준으로 참여 인원을 재계산하고 원장을 비워 재적재 유도.
+     * 커밋은 됐지만 아직 미반영분에 기록되지 않은 예약/취소가 있으면 건수와 미반영분에 이중으로 잡히므로,
+     * 원장을 비워 새 선점을 막은 뒤(재적재는 flushLock을 기다림) 진행 중인 트랜잭션이 모두 끝난 시점에 건수를 읽고
+     * 그때까지 쌓인 미반영분을 함께 버림. 기다리는 동안 끝나지 않으면 이번 주기는 포기하고 다음 flush에서 다시 시도.
+     */
+    private void reconcile(Long scheduleId, int unappliedDelta) {
+        invalidate(scheduleId);
+        if (!awaitDrained(scheduleId)) {
+            recordCommitted(scheduleId, unappliedDelta);
+            log.warn("Seat ledger reconcile postponed for schedule {}: transactions still in flight", scheduleId);
+            return;
+        }
+        Lock lock = ledgerLock.writeLock();
+        lock.lock();
+        try {
+            long enrolled = transactionTemplate.execute(status -> {
+                long count = enrollmentRepository.countByScheduleId(scheduleId);
+                scheduleRepository.overwriteParticipants(scheduleId, (int) count);
+                return count;
+            });
+            pendingDeltas.remove(scheduleId);
+            remainingSeats.remove(scheduleId);
+            log.warn("Seat ledger reconciled for schedule {}: participants={}", scheduleId, enrolled);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean awaitDrained(Long scheduleId) {
+        long deadline = System.currentTimeMillis() + RECONCILE_DRAIN_TIMEOUT_MILLIS;
+        while (count(inFlight, scheduleId) > 0 || count(inFlightReturns, scheduleId) > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 합이 0이 되면 항목을 제거 (merge는 키 단위로 원자적)
+    private void add(Map<Long, Integer> counters, Long scheduleId, int delta) {
+        counters.merge(scheduleId, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private int count(Map<Long, Integer> counters, Long scheduleId) {
+        return counters.getOrDefault(scheduleId, 0);
+    }
+}
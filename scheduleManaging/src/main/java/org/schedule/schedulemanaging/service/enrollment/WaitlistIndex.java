@@ -0,0 +1,94 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.schedule.schedulemanaging.repository.WaitlistEntryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 일정별 예약 대기열의 인메모리 인덱스 (entryId -> memberId, id 순서 = 대기 순서).
+ * 좌석이 풀릴 때마다 DB를 조회하지 않고 대기자 유무를 판단하는 용도이며, 원본은 waitlist_entries.
+ * 처음 조회되는 일정은 DB에서 적재하고, 이후 변경은 커밋 후 반영.
+ * 다른 노드의 변경은 반영되지 않으므로 EnrollmentService의 주기 점검이 DB 기준으로 보완.
+ * 예약 시마다 조회되는 일정은 대부분 대기자가 없으므로 빈 대기열도 보관하되, 개수 상한과 미사용 만료로
+ * 지난 일정의 대기열이 계속 쌓이지 않게 함 (만료된 일정은 다음 조회 때 DB에서 다시 적재).
+ */
+@Component
+public class WaitlistIndex {
+
+    private final WaitlistEntryRepository waitlistRepository;
+    private final Cache<Long, NavigableMap<Long, Long>> queues;
+
+    public WaitlistIndex(
+            WaitlistEntryRepository waitlistRepository,
+            @Value("${spring.enrollment.waitlist.index-size:10000}") long indexSize,
+            @Value("${spring.enrollment.waitlist.index-ttl:30m}") Duration indexTtl) {
+        this.waitlistRepository = waitlistRepository;
+        this.queues = Caffeine.newBuilder()
+                .maximumSize(indexSize)
+                .expireAfterAccess(indexTtl)
+                .build();
+    }
+
+    public boolean hasWaiters(Long scheduleId) {
+        return !queue(scheduleId).isEmpty();
+    }
+
+    public int size(Long scheduleId) {
+        return queue(scheduleId).size();
+    }
+
+    public void addAfterCommit(Long scheduleId, Long entryId, Long memberId) {
+        afterCommit(() -> queue(scheduleId).put(entryId, memberId));
+    }
+
+    public void removeAfterCommit(Long scheduleId, Long entryId) {
+        afterCommit(() -> queue(scheduleId).remove(entryId));
+    }
+
+    public void removeMemberAfterCommit(Long scheduleId, Long memberId) {
+        afterCommit(() -> queue(scheduleId).values().remove(memberId));
+    }
+
+    // 삭제된 일정의 대기열 제거
+    public void evictAfterCommit(Long scheduleId) {
+        afterCommit(() -> queues.invalidate(scheduleId));
+    }
+
+    // DB 기준으로 다시 적재 (주기 점검 시)
+    public void reload(Long scheduleId) {
+        queues.put(scheduleId, load(scheduleId));
+    }
+
+    private NavigableMap<Long, Long> queue(Long scheduleId) {
+        return queues.get(scheduleId, this::load);
+    }
+
+    private NavigableMap<Long, Long> load(Long scheduleId) {
+        NavigableMap<Long, Long> queue = new ConcurrentSkipListMap<>();
+        for (Object[] row : waitlistRepository.findQueue(scheduleId)) {
+            queue.put((Long) row[0], (Long) row[1]);
+        }
+        return queue;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package org.schedule.schedulemanaging.service.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+
+import java.io.OutputStream;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BaseException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+
+    public ExportWriter open(OutputStream out, String sheetName) {
+        return switch (this) {
+            case CSV -> new CsvExportWriter(out);
+            case XLSX -> new XlsxExportWriter(out, sheetName);
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package org.schedule.schedulemanaging.service.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 조직·연도 단위 정산/구매 내역 내보내기.
+ * JPA 엔티티를 거치지 않고 JDBC 커서(fetch size 지정)로 읽은 행을 바로 응답 스트림에 기록하므로
+ * 행 수와 무관하게 메모리 사용량이 일정함.
+ * PostgreSQL 드라이버는 autocommit이 꺼진 트랜잭션 안에서만 fetch size 단위 커서 조회를 하므로
+ * 읽기 전용 트랜잭션 안에서 조회.
+ * 조직 전체의 금액 정보이므로 센터 운영자(USER)와 관리자(ADMIN)만 가능하고, 동시 실행 수는 ExportSlots로 제한.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private static final String SETTLEMENT_SQL =
+            "SELECT s.settlement_month, u.id, u.name, s.total_session_count, s.total_base_salary, " +
+            "s.total_incentive, s.final_amount, s.settled_at " +
+            "FROM instructor_settlement s JOIN users u ON u.id = s.instructor_id " +
+            "WHERE u.organization_id = ? AND s.settlement_month BETWEEN ? AND ? " +
+            "ORDER BY s.settlement_month, u.id";
+
+    private static final String PURCHASE_SQL =
+            "SELECT id, purchased_at, product_name, amount FROM membership_purchases " +
+            "WHERE organization_id = ? AND purchased_at >= ? AND purchased_at < ? " +
+            "ORDER BY purchased_at, id";
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserIdentityResolver userIdentityResolver;
+    private final ExportSlots exportSlots;
+
+    public ExportService(DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         UserIdentityResolver userIdentityResolver,
+                         ExportSlots exportSlots,
+                         @Value("${spring.export.fetch-size:1000}") int fetchSize) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userIdentityResolver = userIdentityResolver;
+        this.exportSlots = exportSlots;
+    }
+
+    /**
+     * 요청자 조직 강사들의 해당 연도 월별 정산 내역.
+     */
+    public StreamingResponseBody exportSettlements(String email, int year, ExportFormat format) {
+        Long organizationId = requireManagerOrganizationId(email); // 스트리밍 스레드에는 SecurityContext가 없으므로 미리 조회
+        ExportSlots.Slot slot = exportSlots.acquire();
+        return out -> stream(slot, format.open(out, "settlements"), writer -> {
+            writer.header("정산월", "강사 ID", "강사명", "수업 횟수", "기본급", "인센티브", "지급액", "정산일시");
+            cursorJdbcTemplate.query(SETTLEMENT_SQL, (RowCallbackHandler) rs -> writeRow(writer,
+                            rs.getString(1), rs.getLong(2), rs.getString(3), rs.getLong(4),
+                            rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getBigDecimal(7), toDateTime(rs, 8)),
+                    organizationId, String.format("%d-01", year), String.format("%d-12", year));
+        }, "settlements", organizationId, year);
+    }
+
+    /**
+     * 요청자 조직의 해당 연도 회원권 구매 내역.
+     */
+    public StreamingResponseBody exportPurchases(String email, int year, ExportFormat format) {
+        Long organizationId = requireManagerOrganizationId(email);
+        LocalDateTime from = LocalDateTime.of(year, 1, 1, 0, 0);
+        ExportSlots.Slot slot = exportSlots.acquire();
+        return out -> stream(slot, format.open(out, "purchases"), writer -> {
+            writer.header("구매 ID", "구매일시", "상품명", "금액");
+            cursorJdbcTemplate.query(PURCHASE_SQL, (RowCallbackHandler) rs -> writeRow(writer,
+                            rs.getLong(1), toDateTime(rs, 2), rs.getString(3), rs.getObject(4, Long.class)),
+                    organizationId, Timestamp.valueOf(from), Timestamp.valueOf(from.plusYears(1)));
+        }, "purchases", organizationId, year);
+    }
+
+    private Long requireManagerOrganizationId(String email) {
+        userIdentityResolver.requireRole(email, ErrorCode.NOT_MANAGER, User.Role.USER, User.Role.ADMIN);
+        return userIdentityResolver.requireOrganizationId(email);
+    }
+
+    private void stream(ExportSlots.Slot slot, ExportWriter writer, ExportBody body, String kind, Long organizationId, int year) throws IOException {
+        long startedAt = System.nanoTime();
+        try (writer) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    body.write(writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등
+            throw e.getCause();
+        } finally {
+            slot.release();
+        }
+        log.info("Exported {} for organization {} year {} in {} ms",
+                kind, organizationId, year, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static void writeRow(ExportWriter writer, Object... values) {
+        try {
+            writer.row(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LocalDateTime toDateTime(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    @FunctionalInterface
+    private interface ExportBody {
+        void write(ExportWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,64 @@
+package org.schedule.schedulemanaging.service.export;
+
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 내보내기 수 제한.
+ * 스트리밍 내보내기는 끝날 때까지 DB 커넥션을 하나 점유하므로(최대 spring.mvc.async.request-timeout)
+ * 한도를 넘는 요청은 대기시키지 않고 바로 EXPORT_BUSY(503)로 거절해 커넥션 풀이 내보내기로 고갈되지 않도록 함.
+ * 슬롯은 본문 스트리밍이 끝날 때 반납하고, 본문이 실행되지 못한 경우(비동기 타임아웃으로 취소, 실행기 거절)를 위해
+ * 비동기 요청이 끝날 때도 한 번 더 반납 (두 번째 반납은 무시).
+ */
+@Component
+public class ExportSlots {
+
+    private final Semaphore permits;
+
+    public ExportSlots(@Value("${spring.export.max-concurrent:4}") int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public Slot acquire() {
+        if (!permits.tryAcquire()) {
+            throw new BaseException(ErrorCode.EXPORT_BUSY);
+        }
+        Slot slot = new Slot();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest())
+                    .registerCallableInterceptor(ExportSlots.class.getName(), new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            slot.release();
+                        }
+                    });
+        }
+        return slot;
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    public final class Slot {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
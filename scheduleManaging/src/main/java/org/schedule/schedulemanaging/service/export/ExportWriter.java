@@ -0,0 +1,17 @@
+package org.schedule.schedulemanaging.service.export;
+
+import java.io.IOException;
+
+/**
+ * 행 단위로 바로 출력 스트림에 쓰는 내보내기 포맷. 전체 행을 메모리에 모으지 않음.
+ */
+public interface ExportWriter extends AutoCloseable {
+
+    void header(String... columns) throws IOException;
+
+    // 값은 String, Number, LocalDateTime, null 중 하나
+    void row(Object... values) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
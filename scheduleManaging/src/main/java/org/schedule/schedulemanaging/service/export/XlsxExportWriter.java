@@ -0,0 +1,74 @@
+package org.schedule.schedulemanaging.service.export;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * SXSSF 스트리밍 XLSX. 최근 ROW_WINDOW 행만 메모리에 두고 나머지는 임시 파일로 내보냄.
+ * (XLSX는 zip 형식이라 close 시점에 시트를 압축해 응답으로 기록)
+ */
+class XlsxExportWriter implements ExportWriter {
+
+    private static final int ROW_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final CellStyle dateTimeStyle;
+    private int rowIndex;
+
+    XlsxExportWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(sheetName);
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+    }
+
+    @Override
+    public void header(String... columns) {
+        row((Object[]) columns);
+    }
+
+    @Override
+    public void row(Object... values) {
+        SXSSFRow row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            writeCell(row, i, values[i]);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close(); // 임시 파일 삭제 포함
+        }
+    }
+
+    private void writeCell(Row row, int column, Object value) {
+        if (value == null) {
+            return;
+        }
+        SXSSFCell cell = (SXSSFCell) row.createCell(column);
+        switch (value) {
+            case Number number -> cell.setCellValue(number.doubleValue());
+            case LocalDateTime dateTime -> {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateTimeStyle);
+            }
+            default -> cell.setCellValue(value.toString());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.schedule.schedulemanaging.service.membership;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.schedule.schedulemanaging.entity.Membership;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티로 회원권이 생성/변경/삭제되면 잔여 횟수 캐시를 커밋 후 무효화.
+ * (PESSIMISTIC 모드 차감·반환, 회원권 구매 등. JDBC 조건부 UPDATE 경로는 MembershipBalanceService가 직접 갱신)
+ */
+@Component
+public class MembershipBalanceInvalidationListener {
+
+    private final ObjectProvider<MembershipBalanceService> balanceService;
+
+    public MembershipBalanceInvalidationListener(ObjectProvider<MembershipBalanceService> balanceService) {
+        this.balanceService = balanceService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(Membership membership) {
+        if (membership.getUser() == null || membership.getOrganization() == null) {
+            return;
+        }
+        balanceService.getObject().invalidateAfterCommit(membership.getUser().getId(), membership.getOrganization().getId());
+    }
+}
@@ -0,0 +1,212 @@
+package org.schedule.schedulemanaging.service.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.membership.MembershipBalance;
+import org.schedule.schedulemanaging.repository.MembershipRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * (회원, 조직)별 회원권 잔여 횟수 캐시와 차감/반환.
+ * - 예약 가능 여부(requireBookable)는 캐시로 판단해 대기 등록, 예약 전 확인에서 회원권 조회를 생략
+ *   (캐시 값이 예약 불가면 DB에서 한 번 다시 확인한 뒤 거절)
+ * - 차감/반환은 조건부 UPDATE ... RETURNING 한 문장으로 처리 (행을 미리 읽거나 잠그지 않음)
+ * - 캐시는 커밋 후 RETURNING 값으로 갱신하고 롤백 시 무효화. 캐시 값이 오래되어 차감이 실패하면 DB에서 다시 읽어 한 번 재시도
+ * 날짜 기준은 주입된 Clock 하나로 통일 (DB CURRENT_DATE와 JVM 기본 타임존이 다를 때 만료일 판단이 어긋나지 않도록).
+ */
+@Service
+public class MembershipBalanceService {
+
+    private static final String USE_PASS_SQL =
+            "UPDATE memberships SET remaining_count = remaining_count - 1, version = version + 1 " +
+            "WHERE id = ? AND remaining_count > 0 AND expiry_date >= ? " +
+            "RETURNING id, remaining_count, expiry_date, version";
+
+    private static final String REFUND_PASS_SQL =
+            "UPDATE memberships SET remaining_count = remaining_count + 1, version = version + 1 " +
+            "WHERE id = ? AND remaining_count < total_count " +
+            "RETURNING id, remaining_count, expiry_date, version";
+
+    private static final RowMapper<MembershipBalance> BALANCE_ROW_MAPPER = (rs, rowNum) -> new MembershipBalance(
+            rs.getLong("id"),
+            rs.getInt("remaining_count"),
+            rs.getDate("expiry_date").toLocalDate(),
+            rs.getLong("version"));
+
+    private final MembershipRepository membershipRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    // 회원권이 없는 회원도 캐시해 반복 조회를 막기 위해 Optional로 보관
+    private final Cache<Key, Optional<MembershipBalance>> cache;
+
+    public MembershipBalanceService(
+            MembershipRepository membershipRepository,
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            @Value("${spring.membership.balance-cache.size:50000}") long cacheSize,
+            @Value("${spring.membership.balance-cache.ttl:5m}") Duration cacheTtl) {
+        this.membershipRepository = membershipRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * 예약에 쓸 수 있는 회원권. 없거나 만료/소진되었으면 BaseException.
+     */
+    public MembershipBalance requireBookable(Long memberId, Long organizationId) {
+        Key key = new Key(memberId, organizationId);
+        LocalDate today = today();
+        boolean[] loaded = {false};
+        Optional<MembershipBalance> balance = cache.get(key, k -> {
+            loaded[0] = true;
+            return load(k, today);
+        });
+        // 캐시 값으로는 예약 불가(없음/만료/소진)여도 그 사이 구매/반환(다른 노드 포함)이 있었을 수 있으므로
+        // 방금 적재한 값이 아니면 DB에서 한 번 다시 읽고 판단 (usePass의 오래된 긍정 캐시 재시도와 대칭)
+        if (!loaded[0] && !isBookable(balance, today)) {
+            balance = reload(key, today);
+        }
+        return check(balance, today);
+    }
+
+    /**
+     * 회원권 1회 차감 (호출자 트랜잭션에 참여). 차감된 회원권의 잔여 횟수 반환.
+     */
+    public MembershipBalance usePass(Long memberId, Long organizationId) {
+        Key key = new Key(memberId, organizationId);
+        LocalDate today = today();
+        MembershipBalance cached = requireBookable(memberId, organizationId);
+        Optional<MembershipBalance> updated = decrement(cached.membershipId(), today);
+        if (updated.isEmpty()) {
+            // 캐시 값이 오래된 경우 (다른 노드/트랜잭션의 차감, 만료, 회원권 교체): DB 기준으로 한 번만 재시도
+            MembershipBalance fresh = check(reload(key, today), today);
+            updated = decrement(fresh.membershipId(), today);
+            if (updated.isEmpty()) {
+                cache.invalidate(key);
+                throw new BaseException(ErrorCode.INSUFFICIENT_PASSES);
+            }
+        }
+        updateAfterCompletion(key, updated.get());
+        return updated.get();
+    }
+
+    /**
+     * 예약 취소 시 회원권 1회 반환 (총 횟수를 넘지 않음, 호출자 트랜잭션에 참여). 반환되었으면 true.
+     */
+    public boolean refund(Long membershipId, Long memberId, Long organizationId) {
+        List<MembershipBalance> rows = jdbcTemplate.query(REFUND_PASS_SQL, BALANCE_ROW_MAPPER, membershipId);
+        if (rows.isEmpty()) {
+            return false;
+        }
+        updateAfterCompletion(new Key(memberId, organizationId), rows.get(0));
+        return true;
+    }
+
+    /**
+     * 예약 시점 회원권이 기록되지 않은 이전 예약의 반환 대상 (현재 유효한 회원권).
+     */
+    public Optional<Long> findActiveMembershipId(Long memberId, Long organizationId) {
+        return load(new Key(memberId, organizationId), today()).map(MembershipBalance::membershipId);
+    }
+
+    public void invalidate(Long memberId, Long organizationId) {
+        cache.invalidate(new Key(memberId, organizationId));
+    }
+
+    // 엔티티 경로(PESSIMISTIC 모드 차감/반환, 회원권 구매 등)로 바뀐 회원권은 커밋 후 다시 적재
+    public void invalidateAfterCommit(Long memberId, Long organizationId) {
+        Key key = new Key(memberId, organizationId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    private Optional<MembershipBalance> decrement(Long membershipId, LocalDate today) {
+        List<MembershipBalance> rows = jdbcTemplate.query(USE_PASS_SQL, BALANCE_ROW_MAPPER, membershipId, Date.valueOf(today));
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    private static boolean isBookable(Optional<MembershipBalance> balance, LocalDate today) {
+        return balance.isPresent() && !balance.get().isExpired(today) && balance.get().remainingCount() > 0;
+    }
+
+    private MembershipBalance check(Optional<MembershipBalance> balance, LocalDate today) {
+        MembershipBalance found = balance.orElseThrow(() -> new BaseException(ErrorCode.MEMBERSHIP_NOT_FOUND));
+        if (found.isExpired(today)) {
+            throw new BaseException(ErrorCode.MEMBERSHIP_EXPIRED);
+        }
+        if (found.remainingCount() <= 0) {
+            throw new BaseException(ErrorCode.INSUFFICIENT_PASSES);
+        }
+        return found;
+    }
+
+    private Optional<MembershipBalance> reload(Key key, LocalDate today) {
+        Optional<MembershipBalance> balance = load(key, today);
+        cache.put(key, balance);
+        return balance;
+    }
+
+    private Optional<MembershipBalance> load(Key key, LocalDate today) {
+        return membershipRepository.findActiveBalances(key.memberId(), key.organizationId(), today, Limit.of(1))
+                .stream()
+                .findFirst();
+    }
+
+    // 커밋되면 RETURNING 값으로 갱신 (더 최신 version이 이미 있으면 유지), 롤백되면 무효화
+    private void updateAfterCompletion(Key key, MembershipBalance updated) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(key, updated);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    put(key, updated);
+                } else {
+                    cache.invalidate(key);
+                }
+            }
+        });
+    }
+
+    private void put(Key key, MembershipBalance updated) {
+        cache.asMap().merge(key, Optional.of(updated), (current, next) -> current
+                .filter(c -> c.membershipId().equals(updated.membershipId()) && c.version() > updated.version())
+                .isPresent() ? current : next);
+    }
+
+    private record Key(Long memberId, Long organizationId) {
+    }
+}
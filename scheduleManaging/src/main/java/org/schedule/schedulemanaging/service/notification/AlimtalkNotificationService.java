@@ -12,8 +12,13 @@ import org.springframework.stereotype.Service;
 public class AlimtalkNotificationService implements NotificationService {
 
     @Override
-    @Async
+    @Async("alimtalkNotificationExecutor")
     public void send(String to, String title, String content) {
+        deliver(to, title, content);
+    }
+
+    @Override
+    public void deliver(String to, String title, String content) {
         // TODO: Solapi, Aligo 등 외부 알림톡 연동 API 호출 로직 추가 예정
         log.info("Alimtalk sent successfully to {}: Title={}, Content={}", to, title, content);
     }
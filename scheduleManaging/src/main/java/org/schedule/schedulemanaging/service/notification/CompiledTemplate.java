@@ -0,0 +1,48 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번 파싱된 메시지 템플릿. (리터럴 구간과 변수 슬롯이 번갈아 배치됨: literal0 var0 literal1 var1 ... literalN)
+ * 불변 객체이므로 여러 스레드가 공유해도 안전함.
+ */
+public final class CompiledTemplate {
+
+    private final String source;
+    private final String[] literals;   // 길이 = variables.length + 1
+    private final String[] variables;
+    private final int literalLength;
+
+    CompiledTemplate(String source, List<String> literals, List<String> variables) {
+        this.source = source;
+        this.literals = literals.toArray(String[]::new);
+        this.variables = variables.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+
+    // 리터럴과 변수 값을 한 번의 순회로 이어 붙임
+    public void renderTo(Map<String, String> values, StringBuilder out) {
+        out.ensureCapacity(out.length() + literalLength + variables.length * 16);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(variables[i]);
+            if (value == null) {
+                throw new BaseException(ErrorCode.TEMPLATE_VARIABLE_MISSING);
+            }
+            out.append(value);
+        }
+        out.append(literals[variables.length]);
+    }
+}
@@ -20,8 +20,13 @@ public class EmailNotificationService implements NotificationService {
     private final JavaMailSender mailSender;
 
     @Override
-    @Async // 알림 발송은 비동기로 처리하여 사용자 응답 속도 향상 (OOM 방지를 위해 추후 TaskExecutor 설정 권장)
+    @Async("emailNotificationExecutor") // 알림 발송은 비동기로 처리하여 사용자 응답 속도 향상 (채널 전용 실행기: 동시 실행 수/대기열 제한)
     public void send(String to, String title, String content) {
+        deliver(to, title, content);
+    }
+
+    @Override
+    public void deliver(String to, String title, String content) {
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setTo(to);
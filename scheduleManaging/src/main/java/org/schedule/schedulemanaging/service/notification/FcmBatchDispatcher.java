@@ -0,0 +1,99 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * FCM 푸시 배치 발송기.
+ * 발송 요청을 짧은 주기 동안 버퍼에 모았다가 sendEach(최대 500건)로 묶어 보내 수신자 수만큼의 HTTP 왕복을 줄이고,
+ * 토큰 단위 실패 결과 중 더 이상 유효하지 않은 토큰은 User.fcmToken에서 제거.
+ */
+@Slf4j
+@Component
+public class FcmBatchDispatcher {
+
+    private final FcmClient fcmClient;
+    private final UserRepository userRepository;
+    private final TaskExecutor fcmNotificationExecutor;
+    private final BlockingQueue<FcmPush> buffer;
+
+    public FcmBatchDispatcher(
+            FcmClient fcmClient,
+            UserRepository userRepository,
+            @Qualifier("fcmNotificationExecutor") TaskExecutor fcmNotificationExecutor,
+            @Value("${spring.notification.fcm.buffer-capacity:10000}") int bufferCapacity) {
+        this.fcmClient = fcmClient;
+        this.userRepository = userRepository;
+        this.fcmNotificationExecutor = fcmNotificationExecutor;
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+    }
+
+    /**
+     * 발송 버퍼에 적재. 버퍼가 가득 차면 false 반환 (메모리 고갈 방지를 위해 대기하지 않음, 처리는 호출자 몫).
+     */
+    public boolean enqueue(FcmPush push) {
+        return buffer.offer(push);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.notification.fcm.flush-interval-ms:100}")
+    public void flush() {
+        while (true) {
+            List<FcmPush> batch = new ArrayList<>(FcmClient.MAX_BATCH_SIZE);
+            if (buffer.drainTo(batch, FcmClient.MAX_BATCH_SIZE) == 0) {
+                return;
+            }
+            // 실제 HTTP 발송은 FCM 전용 실행기에서 수행 (대기열 초과 시 스케줄러 스레드가 직접 실행하며 속도 조절)
+            fcmNotificationExecutor.execute(() -> dispatch(batch));
+        }
+    }
+
+    /**
+     * 푸시 목록을 최대 500건 단위로 즉시 발송하고, 입력 순서대로 토큰별 결과를 반환.
+     */
+    public List<FcmSendResult> dispatch(List<FcmPush> pushes) {
+        List<FcmSendResult> results = new ArrayList<>(pushes.size());
+        for (int from = 0; from < pushes.size(); from += FcmClient.MAX_BATCH_SIZE) {
+            List<FcmPush> chunk = pushes.subList(from, Math.min(from + FcmClient.MAX_BATCH_SIZE, pushes.size()));
+            results.addAll(sendChunk(chunk));
+        }
+        return results;
+    }
+
+    private List<FcmSendResult> sendChunk(List<FcmPush> chunk) {
+        List<FcmSendResult> results = fcmClient.sendEach(chunk);
+
+        Set<String> deadTokens = new HashSet<>();
+        int failed = 0;
+        for (int i = 0; i < results.size(); i++) {
+            FcmSendResult result = results.get(i);
+            if (result.isSuccess()) {
+                continue;
+            }
+            failed++;
+            if (result.isDeadToken()) {
+                deadTokens.add(chunk.get(i).getToken());
+            } else {
+                log.warn("FCM send failed for token: {}. Error: {}", chunk.get(i).getToken(), result.getErrorCode());
+            }
+        }
+
+        if (!deadTokens.isEmpty()) {
+            int pruned = userRepository.clearFcmTokens(deadTokens);
+            log.info("Pruned {} dead FCM tokens from {} users", deadTokens.size(), pruned);
+        }
+        log.info("FCM batch sent: total={}, failed={}", chunk.size(), failed);
+        return results;
+    }
+}
@@ -0,0 +1,14 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import java.util.List;
+
+/**
+ * FCM 배치 발송 클라이언트. (테스트 시 로컬 스텁으로 교체 가능하도록 Firebase SDK 호출을 분리)
+ */
+public interface FcmClient {
+
+    // 최대 500건까지 한 번의 호출로 발송
+    int MAX_BATCH_SIZE = 500;
+
+    List<FcmSendResult> sendEach(List<FcmPush> pushes);
+}
@@ -1,37 +1,49 @@
 package org.schedule.schedulemanaging.service.notification;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+/**
+ * FCM 푸시 발송 구현체.
+ * 건별 HTTP 호출 대신 FcmBatchDispatcher 버퍼에 적재하여 배치로 발송 (적재는 즉시 반환되므로 @Async 불필요).
+ * 버퍼가 가득 차면 버리지 않고 호출 스레드에서 바로 발송하며(실행기의 CALLER_RUNS와 같은 방식으로 속도 조절),
+ * 그 횟수를 notification.fcm.buffer.overflow 지표로 남김.
+ */
 @Slf4j
 @Service("fcmNotificationService")
+@RequiredArgsConstructor
 public class FcmNotificationService implements NotificationService {
 
+    private final FcmBatchDispatcher fcmBatchDispatcher;
+    private final MeterRegistry meterRegistry;
+
     @Override
-    @Async
     public void send(String fcmToken, String title, String content) {
         if (fcmToken == null || fcmToken.isEmpty()) {
             log.warn("FCM Token is missing. Skipping push notification.");
             return;
         }
 
-        try {
-            Message message = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(content)
-                            .build())
-                    .build();
+        FcmPush push = new FcmPush(fcmToken, title, content);
+        if (!fcmBatchDispatcher.enqueue(push)) {
+            meterRegistry.counter("notification.fcm.buffer.overflow").increment();
+            log.warn("FCM buffer is full. Sending push synchronously on the caller thread.");
+            fcmBatchDispatcher.dispatch(List.of(push));
+        }
+    }
 
-            String response = FirebaseMessaging.getInstance().send(message);
-            log.info("Successfully sent FCM message: {}", response);
-        } catch (Exception e) {
-            log.error("Failed to send FCM message to token: {}. Error: {}", fcmToken, e.getMessage());
+    @Override
+    public void deliver(String fcmToken, String title, String content) {
+        FcmSendResult result = fcmBatchDispatcher.dispatch(List.of(new FcmPush(fcmToken, title, content))).get(0);
+        // 만료 토큰은 이미 제거되었으므로 재시도 대상이 아님
+        if (!result.isSuccess() && !result.isDeadToken()) {
+            throw new BaseException(ErrorCode.NOTIFICATION_FAILED);
         }
     }
 }
@@ -0,0 +1,15 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발송 대기 중인 FCM 푸시 한 건.
+ */
+@Getter
+@AllArgsConstructor
+public class FcmPush {
+    private String token;
+    private String title;
+    private String content;
+}
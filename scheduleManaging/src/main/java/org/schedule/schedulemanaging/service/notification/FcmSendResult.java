@@ -0,0 +1,28 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 단위 FCM 발송 결과. (배치 요청의 메시지 순서와 동일한 순서로 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class FcmSendResult {
+    private boolean success;
+    private MessagingErrorCode errorCode; // 실패 시에만 값 존재 (배치 요청 자체가 실패하면 null)
+
+    public static FcmSendResult ok() {
+        return new FcmSendResult(true, null);
+    }
+
+    public static FcmSendResult failed(MessagingErrorCode errorCode) {
+        return new FcmSendResult(false, errorCode);
+    }
+
+    // 앱 삭제, 토큰 만료 등으로 더 이상 발송할 수 없는 토큰인지 여부
+    public boolean isDeadToken() {
+        return errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH;
+    }
+}
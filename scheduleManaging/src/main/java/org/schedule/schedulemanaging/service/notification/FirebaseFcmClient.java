@@ -0,0 +1,50 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class FirebaseFcmClient implements FcmClient {
+
+    @Override
+    public List<FcmSendResult> sendEach(List<FcmPush> pushes) {
+        List<Message> messages = pushes.stream()
+                .map(push -> Message.builder()
+                        .setToken(push.getToken())
+                        .setNotification(Notification.builder()
+                                .setTitle(push.getTitle())
+                                .setBody(push.getContent())
+                                .build())
+                        .build())
+                .toList();
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+            return response.getResponses().stream()
+                    .map(FirebaseFcmClient::toResult)
+                    .collect(Collectors.toList());
+        } catch (FirebaseMessagingException | IllegalStateException e) {
+            // 배치 요청 자체 실패 (인증 오류, Firebase 미초기화 등) -> 전체 실패 처리
+            log.error("Failed to send FCM batch of {} messages: {}", messages.size(), e.getMessage());
+            return Collections.nCopies(messages.size(), FcmSendResult.failed(
+                    e instanceof FirebaseMessagingException fme ? fme.getMessagingErrorCode() : null));
+        }
+    }
+
+    private static FcmSendResult toResult(SendResponse response) {
+        if (response.isSuccessful()) {
+            return FcmSendResult.ok();
+        }
+        return FcmSendResult.failed(response.getException().getMessagingErrorCode());
+    }
+}
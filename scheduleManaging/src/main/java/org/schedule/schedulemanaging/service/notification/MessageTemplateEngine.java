@@ -1,11 +1,117 @@
 package org.schedule.schedulemanaging.service.notification;
 
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 알림 메시지 템플릿 엔진.
+ * 템플릿을 최초 1회 리터럴/변수 슬롯으로 컴파일해 템플릿 ID별 LRU 캐시에 보관하고,
+ * 렌더링은 스레드별로 재사용하는 StringBuilder에 한 번의 순회로 수행.
+ * 템플릿 ID별 사용 가능 변수는 register로 한 번 선언하고(애플리케이션 시작 시), 이후 내용이 바뀐 템플릿도 그 선언 기준으로 검증.
+ */
 @Component
 public class MessageTemplateEngine {
 
+    private static final String OPEN = "#{";
+    private static final char CLOSE = '}';
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final Map<String, CompiledTemplate> cache;
+    // 템플릿 ID -> 등록 시 선언한 변수 (코드에서 등록하는 고정 집합이므로 크기 제한 없음)
+    private final Map<String, Registration> registry = new ConcurrentHashMap<>();
+
+    public MessageTemplateEngine(@Value("${spring.notification.template.cache-size:256}") int cacheSize) {
+        this.cache = new LinkedHashMap<>(cacheSize * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledTemplate> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * 템플릿을 컴파일해 캐시에 등록.
+     * 템플릿이 선언되지 않은 변수를 참조하면 발송 시점이 아닌 컴파일 시점에 예외 발생.
+     * 같은 ID로 내용이 바뀐 템플릿이 들어오면 다시 컴파일.
+     */
+    public CompiledTemplate compile(String templateId, String template, Collection<String> declaredVariables) {
+        synchronized (cache) {
+            CompiledTemplate cached = cache.get(templateId);
+            if (cached != null && cached.getSource().equals(template)) {
+                return cached;
+            }
+        }
+
+        CompiledTemplate compiled = parse(template);
+        if (!declaredVariables.containsAll(compiled.getVariables())) {
+            throw new BaseException(ErrorCode.TEMPLATE_INVALID);
+        }
+
+        synchronized (cache) {
+            cache.put(templateId, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 템플릿 ID와 사용 가능한 변수를 등록. 기본 템플릿이 선언되지 않은 변수를 참조하면 등록 시점에 예외 발생.
+     */
+    public CompiledTemplate register(String templateId, String template, Collection<String> declaredVariables) {
+        Set<String> declared = Set.copyOf(declaredVariables);
+        CompiledTemplate compiled = compile(templateId, template, declared);
+        registry.put(templateId, new Registration(declared, compiled));
+        return compiled;
+    }
+
+    /**
+     * 등록된 기본 템플릿으로 렌더링.
+     */
+    public String render(String templateId, Map<String, String> variables) {
+        return render(registration(templateId).template(), variables);
+    }
+
+    /**
+     * 등록된 템플릿 ID의 새 내용(관리자가 수정한 문구 등)으로 렌더링. 변수 검증은 호출 시 넘긴 값이 아니라 등록 시 선언 기준.
+     */
+    public String render(String templateId, String template, Map<String, String> variables) {
+        return render(compile(templateId, template, registration(templateId).declaredVariables()), variables);
+    }
+
+    public String render(CompiledTemplate template, Map<String, String> variables) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        template.renderTo(variables, builder);
+        String result = builder.toString();
+        if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            // 드물게 큰 메시지로 늘어난 버퍼를 계속 붙잡고 있지 않도록 교체
+            BUILDER.set(new StringBuilder(512));
+        }
+        return result;
+    }
+
+    private Registration registration(String templateId) {
+        Registration registration = registry.get(templateId);
+        if (registration == null) {
+            throw new BaseException(ErrorCode.TEMPLATE_NOT_REGISTERED);
+        }
+        return registration;
+    }
+
+    /**
+     * 기존 치환 방식 (변수마다 전체 문자열을 다시 스캔). 미리 등록하지 않은 일회성 템플릿용.
+     */
     public String replace(String template, Map<String, String> variables) {
         String result = template;
         for (Map.Entry<String, String> entry : variables.entrySet()) {
@@ -13,4 +119,30 @@ public class MessageTemplateEngine {
         }
         return result;
     }
+
+    // 닫히지 않은 "#{"는 기존 replace와 동일하게 리터럴로 취급
+    static CompiledTemplate parse(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int pos = 0;
+        while (pos < template.length()) {
+            int open = template.indexOf(OPEN, pos);
+            int close = open < 0 ? -1 : template.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literal.append(template, pos, template.length());
+                break;
+            }
+            literal.append(template, pos, open);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            variables.add(template.substring(open + OPEN.length(), close));
+            pos = close + 1;
+        }
+        literals.add(literal.toString());
+        return new CompiledTemplate(template, literals, variables);
+    }
+
+    private record Registration(Set<String> declaredVariables, CompiledTemplate template) {
+    }
 }
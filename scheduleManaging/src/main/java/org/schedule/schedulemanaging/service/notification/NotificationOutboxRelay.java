@@ -0,0 +1,183 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.dto.notification.UserFcmToken;
+import org.schedule.schedulemanaging.entity.NotificationOutbox;
+import org.schedule.schedulemanaging.repository.NotificationOutboxRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 릴레이.
+ * 1) 짧은 트랜잭션에서 발송 대상 행을 FOR UPDATE SKIP LOCKED로 선점하고 임대 시간만큼 다음 시도 시각을 미룸
+ * 2) 트랜잭션 밖에서 채널별로 발송 (FCM은 배치 발송, 이메일/알림톡은 채널 전용 실행기에서 병렬 발송)
+ * 3) 결과를 반영하고 실패 건은 지수 백오프로 재시도 예약 (최대 횟수 초과 시 FAILED)
+ * 발송 도중 서버가 죽으면 임대 시간이 지난 뒤 다시 발송되므로 at-least-once 전달.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final FcmBatchDispatcher fcmBatchDispatcher;
+    private final NotificationService emailNotificationService;
+    private final NotificationService alimtalkNotificationService;
+    private final TaskExecutor emailNotificationExecutor;
+    private final TaskExecutor alimtalkNotificationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public NotificationOutboxRelay(
+            NotificationOutboxRepository outboxRepository,
+            UserRepository userRepository,
+            FcmBatchDispatcher fcmBatchDispatcher,
+            @Qualifier("emailNotificationService") NotificationService emailNotificationService,
+            @Qualifier("alimtalkNotificationService") NotificationService alimtalkNotificationService,
+            @Qualifier("emailNotificationExecutor") TaskExecutor emailNotificationExecutor,
+            @Qualifier("alimtalkNotificationExecutor") TaskExecutor alimtalkNotificationExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.notification.outbox.batch-size:100}") int batchSize,
+            @Value("${spring.notification.outbox.lease-ms:60000}") long leaseMillis,
+            @Value("${spring.notification.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${spring.notification.outbox.base-backoff-ms:5000}") long baseBackoffMillis,
+            @Value("${spring.notification.outbox.max-backoff-ms:600000}") long maxBackoffMillis) {
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.fcmBatchDispatcher = fcmBatchDispatcher;
+        this.emailNotificationService = emailNotificationService;
+        this.alimtalkNotificationService = alimtalkNotificationService;
+        this.emailNotificationExecutor = emailNotificationExecutor;
+        this.alimtalkNotificationExecutor = alimtalkNotificationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.notification.outbox.poll-interval-ms:500}")
+    public void relay() {
+        List<NotificationOutbox> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> claim());
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+            Map<Long, String> failures = deliver(claimed);
+            List<Long> ids = claimed.stream().map(NotificationOutbox::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> complete(ids, failures));
+            log.info("Outbox relayed {} notifications ({} failed)", claimed.size(), failures.size());
+        } while (claimed.size() == batchSize);
+    }
+
+    // 발송 완료 후 7일이 지난 행 정리
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeSent() {
+        int deleted = outboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(7));
+        log.info("Purged {} sent outbox rows", deleted);
+    }
+
+    private List<NotificationOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> due = outboxRepository.claimDue(now, batchSize);
+        due.forEach(row -> row.lease(now.plusNanos(leaseMillis * 1_000_000)));
+        return due;
+    }
+
+    // 반환값: 실패한 행 ID -> 오류 메시지
+    private Map<Long, String> deliver(List<NotificationOutbox> rows) {
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        List<NotificationOutbox> pushes = new ArrayList<>();
+
+        for (NotificationOutbox row : rows) {
+            switch (row.getChannel()) {
+                case EMAIL -> pending.add(deliverAsync(row, emailNotificationService, emailNotificationExecutor, failures));
+                case ALIMTALK -> pending.add(deliverAsync(row, alimtalkNotificationService, alimtalkNotificationExecutor, failures));
+                case FCM -> pushes.add(row);
+            }
+        }
+
+        deliverPushes(pushes, failures);
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return failures;
+    }
+
+    private CompletableFuture<Void> deliverAsync(NotificationOutbox row, NotificationService service,
+                                                 TaskExecutor executor, Map<Long, String> failures) {
+        try {
+            return CompletableFuture
+                    .runAsync(() -> service.deliver(row.getRecipient(), row.getTitle(), row.getContent()), executor)
+                    .exceptionally(e -> {
+                        failures.put(row.getId(), String.valueOf(e.getMessage()));
+                        return null;
+                    });
+        } catch (RuntimeException e) {
+            // 실행기 대기열 초과(REJECT 정책) 등 -> 다음 주기에 재시도
+            failures.put(row.getId(), String.valueOf(e.getMessage()));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void deliverPushes(List<NotificationOutbox> rows, Map<Long, String> failures) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<Long, String> tokenByUserId = userRepository.findFcmTokensByIds(
+                        rows.stream().map(NotificationOutbox::getRecipientUserId).collect(Collectors.toSet())).stream()
+                .filter(token -> token.getFcmToken() != null && !token.getFcmToken().isEmpty())
+                .collect(Collectors.toMap(UserFcmToken::getUserId, UserFcmToken::getFcmToken));
+
+        // 토큰이 없는 사용자(앱 미설치/로그아웃)는 발송 대상에서 제외하고 완료 처리
+        List<NotificationOutbox> sendable = rows.stream()
+                .filter(row -> tokenByUserId.containsKey(row.getRecipientUserId()))
+                .toList();
+        List<FcmPush> batch = sendable.stream()
+                .map(row -> new FcmPush(tokenByUserId.get(row.getRecipientUserId()), row.getTitle(), row.getContent()))
+                .toList();
+
+        List<FcmSendResult> results = fcmBatchDispatcher.dispatch(batch);
+        for (int i = 0; i < results.size(); i++) {
+            FcmSendResult result = results.get(i);
+            if (!result.isSuccess() && !result.isDeadToken()) {
+                failures.put(sendable.get(i).getId(), "FCM " + result.getErrorCode());
+            }
+        }
+    }
+
+    private void complete(List<Long> ids, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationOutbox row : outboxRepository.findAllById(ids)) {
+            String error = failures.get(row.getId());
+            if (error == null) {
+                row.markSent();
+            } else {
+                row.markFailedAttempt(error, now.plusNanos(backoffMillis(row.getAttempts()) * 1_000_000), maxAttempts);
+            }
+        }
+    }
+
+    private long backoffMillis(int attempts) {
+        return Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempts, 20));
+    }
+}
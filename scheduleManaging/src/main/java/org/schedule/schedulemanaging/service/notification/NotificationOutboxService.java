@@ -0,0 +1,39 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.schedule.schedulemanaging.entity.NotificationOutbox;
+import org.schedule.schedulemanaging.repository.NotificationOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 아웃박스 적재.
+ * 호출한 비즈니스 트랜잭션 안에서만 기록하도록 MANDATORY 전파를 사용 (트랜잭션 밖 호출은 예외).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    public void enqueue(NotificationOutbox.Channel channel, String recipient, String title, String content) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .channel(channel)
+                .recipient(recipient)
+                .title(title)
+                .content(content)
+                .build());
+    }
+
+    // FCM은 발송 시점에 사용자 ID로 최신 토큰을 조회
+    public void enqueuePush(Long userId, String title, String content) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .channel(NotificationOutbox.Channel.FCM)
+                .recipientUserId(userId)
+                .title(title)
+                .content(content)
+                .build());
+    }
+}
@@ -4,5 +4,9 @@ package org.schedule.schedulemanaging.service.notification;
  * 알림 발송 공통 인터페이스. (확장성 고려)
  */
 public interface NotificationService {
+    // 비동기 발송 (결과를 기다리지 않음)
     void send(String to, String title, String content);
+
+    // 동기 발송. 실패 시 예외를 던짐 (아웃박스 릴레이의 재시도 판단용)
+    void deliver(String to, String title, String content);
 }
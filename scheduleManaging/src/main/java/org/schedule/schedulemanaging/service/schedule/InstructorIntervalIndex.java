@@ -0,0 +1,211 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleInterval;
+import org.schedule.schedulemanaging.dto.schedule.TimeSlotResponse;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 강사 중복 배정 검사용 인메모리 구간 인덱스. (조직별, 강사별 IntervalTree)
+ * 조직의 첫 요청 시 schedules에서 지연 적재하고, 일정 생성/수정/삭제 시 갱신.
+ * - 생성/수정: 검사와 반영을 조직 단위 잠금 안에서 함께 수행하고, 트랜잭션이 롤백되면 되돌림
+ * - 삭제: 커밋 후 제거 (커밋 전까지는 시간대를 계속 점유)
+ * 좌석 원장(SeatLedger)과 마찬가지로 단일 인스턴스 기준이며, 여러 인스턴스에서는 인스턴스 간 충돌을 감지하지 못함.
+ */
+@Slf4j
+@Component
+public class InstructorIntervalIndex {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ConcurrentMap<Long, OrganizationIntervals> organizations = new ConcurrentHashMap<>();
+
+    public InstructorIntervalIndex(ScheduleRepository scheduleRepository) {
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    private static final class OrganizationIntervals {
+        private final Map<Long, IntervalTree> byInstructor = new HashMap<>();
+        private boolean loaded;
+
+        IntervalTree tree(Long instructorId) {
+            return byInstructor.computeIfAbsent(instructorId, id -> new IntervalTree());
+        }
+    }
+
+    /**
+     * 새 일정 구간 등록. 같은 강사의 다른 일정과 겹치면 예외.
+     */
+    public void add(Long organizationId, Long instructorId, Long scheduleId, LocalDateTime start, LocalDateTime end) {
+        OrganizationIntervals intervals = organization(organizationId);
+        synchronized (intervals) {
+            IntervalTree tree = loaded(intervals, organizationId).tree(instructorId);
+            checkNoOverlap(tree, scheduleId, start, end);
+            tree.insert(scheduleId, toEpoch(start), toEpoch(end));
+        }
+        onRollback(() -> remove(organizationId, instructorId, scheduleId, start));
+    }
+
+    /**
+     * 여러 일정 구간을 한 번에 등록 (반복 일정 회차 일괄 생성용).
+     * 하나라도 기존 일정 또는 서로 간에 겹치면 이번 호출로 넣은 구간을 모두 되돌리고 예외.
+     */
+    public void addAll(Long organizationId, Long instructorId, List<ScheduleInterval> schedules) {
+        OrganizationIntervals intervals = organization(organizationId);
+        synchronized (intervals) {
+            IntervalTree tree = loaded(intervals, organizationId).tree(instructorId);
+            List<ScheduleInterval> inserted = new ArrayList<>(schedules.size());
+            try {
+                for (ScheduleInterval schedule : schedules) {
+                    checkNoOverlap(tree, schedule.scheduleId(), schedule.startTime(), schedule.endTime());
+                    tree.insert(schedule.scheduleId(), toEpoch(schedule.startTime()), toEpoch(schedule.endTime()));
+                    inserted.add(schedule);
+                }
+            } catch (BaseException e) {
+                inserted.forEach(schedule -> tree.remove(schedule.scheduleId(), toEpoch(schedule.startTime())));
+                throw e;
+            }
+        }
+        onRollback(() -> {
+            synchronized (intervals) {
+                IntervalTree tree = intervals.tree(instructorId);
+                schedules.forEach(schedule -> tree.remove(schedule.scheduleId(), toEpoch(schedule.startTime())));
+            }
+        });
+    }
+
+    /**
+     * 일정 시간/강사 변경. 변경 후 구간이 다른 일정과 겹치면 예외 (기존 구간은 유지).
+     */
+    public void move(Long organizationId, Long scheduleId,
+                     Long oldInstructorId, LocalDateTime oldStart, LocalDateTime oldEnd,
+                     Long newInstructorId, LocalDateTime newStart, LocalDateTime newEnd) {
+        OrganizationIntervals intervals = organization(organizationId);
+        synchronized (intervals) {
+            loaded(intervals, organizationId);
+            IntervalTree target = intervals.tree(newInstructorId);
+            checkNoOverlap(target, scheduleId, newStart, newEnd);
+            intervals.tree(oldInstructorId).remove(scheduleId, toEpoch(oldStart));
+            target.insert(scheduleId, toEpoch(newStart), toEpoch(newEnd));
+        }
+        onRollback(() -> {
+            synchronized (intervals) {
+                intervals.tree(newInstructorId).remove(scheduleId, toEpoch(newStart));
+                intervals.tree(oldInstructorId).insert(scheduleId, toEpoch(oldStart), toEpoch(oldEnd));
+            }
+        });
+    }
+
+    public void removeAfterCommit(Long organizationId, Long instructorId, Long scheduleId, LocalDateTime start) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(organizationId, instructorId, scheduleId, start);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(organizationId, instructorId, scheduleId, start);
+            }
+        });
+    }
+
+    /**
+     * 강사의 [from, to) 기간 중 minDuration 이상 비어 있는 시간대.
+     */
+    public List<TimeSlotResponse> findFreeSlots(Long organizationId, Long instructorId,
+                                                LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        List<long[]> busy;
+        OrganizationIntervals intervals = organization(organizationId);
+        synchronized (intervals) {
+            IntervalTree tree = loaded(intervals, organizationId).byInstructor.get(instructorId);
+            busy = tree != null ? tree.overlapping(toEpoch(from), toEpoch(to)) : List.of();
+        }
+
+        List<TimeSlotResponse> slots = new ArrayList<>();
+        long cursor = toEpoch(from);
+        long rangeEnd = toEpoch(to);
+        long minSeconds = minDuration.toSeconds();
+        for (long[] interval : busy) {
+            addSlot(slots, cursor, Math.min(interval[1], rangeEnd), minSeconds);
+            cursor = Math.max(cursor, interval[2]);
+        }
+        addSlot(slots, cursor, rangeEnd, minSeconds);
+        return slots;
+    }
+
+    private void remove(Long organizationId, Long instructorId, Long scheduleId, LocalDateTime start) {
+        OrganizationIntervals intervals = organizations.get(organizationId);
+        if (intervals == null) {
+            return;
+        }
+        synchronized (intervals) {
+            intervals.tree(instructorId).remove(scheduleId, toEpoch(start));
+        }
+    }
+
+    private OrganizationIntervals organization(Long organizationId) {
+        return organizations.computeIfAbsent(organizationId, id -> new OrganizationIntervals());
+    }
+
+    // 호출 측에서 intervals 잠금을 잡은 상태로 호출
+    private OrganizationIntervals loaded(OrganizationIntervals intervals, Long organizationId) {
+        if (!intervals.loaded) {
+            List<ScheduleInterval> rows = scheduleRepository.findIntervalsByOrganization(organizationId);
+            for (ScheduleInterval row : rows) {
+                intervals.tree(row.instructorId())
+                        .insert(row.scheduleId(), toEpoch(row.startTime()), toEpoch(row.endTime()));
+            }
+            intervals.loaded = true;
+            log.info("Loaded {} schedule intervals for organization {}", rows.size(), organizationId);
+        }
+        return intervals;
+    }
+
+    private static void checkNoOverlap(IntervalTree tree, Long scheduleId, LocalDateTime start, LocalDateTime end) {
+        if (tree.findOverlap(toEpoch(start), toEpoch(end), scheduleId) != IntervalTree.NONE) {
+            throw new BaseException(ErrorCode.INSTRUCTOR_SCHEDULE_CONFLICT);
+        }
+    }
+
+    private static void onRollback(Runnable revert) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    revert.run();
+                }
+            }
+        });
+    }
+
+    private static void addSlot(List<TimeSlotResponse> slots, long start, long end, long minSeconds) {
+        if (end - start >= minSeconds && end > start) {
+            slots.add(new TimeSlotResponse(fromEpoch(start), fromEpoch(end)));
+        }
+    }
+
+    private static long toEpoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpoch(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,211 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반개구간 [start, end) 보관용 증강 구간 트리 (AVL 균형).
+ * 노드는 (start, id) 순으로 정렬되고 각 노드에 서브트리의 최대 end를 보관해
+ * 겹치는 구간 탐색 시 겹칠 수 없는 서브트리를 건너뜀.
+ * 스레드 안전하지 않으므로 호출 측(InstructorIntervalIndex)에서 동기화.
+ */
+class IntervalTree {
+
+    static final long NONE = Long.MIN_VALUE;
+
+    private Node root;
+    private int size;
+
+    private static final class Node {
+        final long id;
+        final long start;
+        long end;
+        long maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 구간 추가. 같은 (id, start)가 이미 있으면 end만 갱신.
+     */
+    void insert(long id, long start, long end) {
+        root = insert(root, id, start, end);
+    }
+
+    boolean remove(long id, long start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간 중 excludeId가 아닌 것 하나의 ID, 없으면 NONE.
+     * 트리 안의 구간끼리 서로 겹치지 않도록 유지되므로 방문 노드 수는 O(log n).
+     */
+    long findOverlap(long start, long end, long excludeId) {
+        Node found = findOverlap(root, start, end, excludeId);
+        return found != null ? found.id : NONE;
+    }
+
+    /**
+     * [start, end)와 겹치는 모든 구간을 시작 시각 순으로 반환. 각 원소는 {id, start, end}. O(log n + k)
+     */
+    List<long[]> overlapping(long start, long end) {
+        List<long[]> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    private Node findOverlap(Node node, long start, long end, long excludeId) {
+        if (node == null || node.maxEnd <= start) {
+            return null;
+        }
+        Node found = findOverlap(node.left, start, end, excludeId);
+        if (found != null) {
+            return found;
+        }
+        if (node.start >= end) {
+            return null; // 이 노드와 오른쪽 서브트리는 모두 end 이후에 시작
+        }
+        if (node.end > start && node.id != excludeId) {
+            return node;
+        }
+        return findOverlap(node.right, start, end, excludeId);
+    }
+
+    private void collect(Node node, long start, long end, List<long[]> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start >= end) {
+            return;
+        }
+        if (node.end > start) {
+            result.add(new long[]{node.id, node.start, node.end});
+        }
+        collect(node.right, start, end, result);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(id, node.id);
+    }
+
+    private Node insert(Node node, long id, long start, long end) {
+        if (node == null) {
+            size++;
+            return new Node(id, start, end);
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, id, start, end);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, id, start, end);
+        } else {
+            node.end = end;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.id, successor.start, successor.end);
+            replacement.right = removeMin(node.right);
+            replacement.left = node.left;
+            return rebalance(replacement);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
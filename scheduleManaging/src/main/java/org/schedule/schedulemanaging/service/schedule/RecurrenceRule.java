@@ -0,0 +1,87 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * RRULE 형식의 주간 반복 규칙 (FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231 만 지원).
+ * 시작일부터 종료일(포함)까지 지정 요일마다 발생하며, 예외일은 제외.
+ */
+public record RecurrenceRule(Set<DayOfWeek> days, LocalDate until) {
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    public RecurrenceRule {
+        if (days == null || days.isEmpty() || until == null) {
+            throw new BaseException(ErrorCode.INVALID_RECURRENCE);
+        }
+        days = EnumSet.copyOf(days);
+    }
+
+    public static RecurrenceRule parse(String rrule) {
+        Set<DayOfWeek> days = null;
+        LocalDate until = null;
+        boolean weekly = false;
+        try {
+            for (String part : rrule.split(";")) {
+                String[] pair = part.split("=", 2);
+                switch (pair[0]) {
+                    case "FREQ" -> weekly = "WEEKLY".equals(pair[1]);
+                    case "BYDAY" -> days = Arrays.stream(pair[1].split(","))
+                            .map(RecurrenceRule::toDayOfWeek)
+                            .collect(Collectors.toCollection(() -> EnumSet.noneOf(DayOfWeek.class)));
+                    case "UNTIL" -> until = LocalDate.parse(pair[1], UNTIL_FORMAT);
+                    default -> throw new BaseException(ErrorCode.INVALID_RECURRENCE);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BaseException(ErrorCode.INVALID_RECURRENCE);
+        }
+        if (!weekly) {
+            throw new BaseException(ErrorCode.INVALID_RECURRENCE);
+        }
+        return new RecurrenceRule(days, until);
+    }
+
+    public String format() {
+        return "FREQ=WEEKLY;BYDAY="
+                + days.stream().map(day -> day.name().substring(0, 2)).collect(Collectors.joining(","))
+                + ";UNTIL=" + until.format(UNTIL_FORMAT);
+    }
+
+    /**
+     * startDate부터 until까지의 발생일 목록 (날짜순). 발생 횟수가 maxOccurrences를 넘으면 예외.
+     */
+    public List<LocalDate> expand(LocalDate startDate, Set<LocalDate> exceptions, int maxOccurrences) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(until); date = date.plusDays(1)) {
+            if (days.contains(date.getDayOfWeek()) && !exceptions.contains(date)) {
+                if (dates.size() == maxOccurrences) {
+                    throw new BaseException(ErrorCode.SERIES_TOO_LARGE);
+                }
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private static DayOfWeek toDayOfWeek(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code) && code.length() == 2) {
+                return day;
+            }
+        }
+        throw new BaseException(ErrorCode.INVALID_RECURRENCE);
+    }
+}
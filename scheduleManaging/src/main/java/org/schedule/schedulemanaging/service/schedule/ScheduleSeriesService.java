@@ -0,0 +1,224 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleInterval;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleSeriesRequest;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleSeriesResponse;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.Schedule;
+import org.schedule.schedulemanaging.entity.ScheduleSeries;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.ScheduleSeriesRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.repository.WaitlistEntryRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.schedule.schedulemanaging.security.UserPrincipal;
+import org.schedule.schedulemanaging.service.enrollment.EnrollmentService;
+import org.schedule.schedulemanaging.service.enrollment.SeatLedger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 일정(시리즈) 생성/수정.
+ * 회차는 Schedule 행으로 펼쳐 JDBC 배치 INSERT로 저장하고 (Schedule은 시퀀스 ID라 batch_size 단위로 묶임),
+ * 시리즈 수정 시에는 현재 시각 이후 회차만 다시 작성 (지난 회차와 출석 기록은 그대로 유지).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ScheduleSeriesService {
+
+    public static final int MAX_OCCURRENCES = 10_000;
+    // 영속성 컨텍스트를 비우는 단위 (hibernate.jdbc.batch_size의 배수)
+    private static final int FLUSH_CHUNK = 500;
+
+    private final ScheduleSeriesRepository seriesRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final WaitlistEntryRepository waitlistRepository;
+    private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
+    private final UserIdentityResolver userIdentityResolver;
+    private final InstructorIntervalIndex intervalIndex;
+    private final SeatLedger seatLedger;
+    private final EnrollmentService enrollmentService;
+    private final EntityManager entityManager;
+
+    public ScheduleSeriesResponse createSeries(String email, ScheduleSeriesRequest request) {
+        if (!request.isValidTime()) {
+            throw new BaseException(ErrorCode.INVALID_TIME_RANGE);
+        }
+
+        UserPrincipal principal = userIdentityResolver.resolve(email);
+        User instructor = userRepository.getReferenceById(principal.getUserId());
+        Organization organization = principal.getOrganizationId() != null
+                ? organizationRepository.getReferenceById(principal.getOrganizationId()) : null;
+
+        RecurrenceRule rule = new RecurrenceRule(request.getDaysOfWeek(), request.getUntilDate());
+        Set<LocalDate> exceptions = exceptionDates(request);
+        List<LocalDate> dates = rule.expand(request.getStartDate(), exceptions, MAX_OCCURRENCES);
+
+        ScheduleSeries series = seriesRepository.save(ScheduleSeries.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .maxCapacity(request.getMaxCapacity())
+                .instructor(instructor)
+                .organization(organization)
+                .startDate(request.getStartDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .recurrenceRule(rule.format())
+                .exceptionDates(ScheduleSeries.joinDates(exceptions))
+                .build());
+
+        int created = insertOccurrences(series, instructor, organization, principal, dates);
+        return new ScheduleSeriesResponse(series.getId(), created, 0, 0);
+    }
+
+    /**
+     * 시리즈 수정. 현재 이후 회차 중 새 규칙에도 있는 날짜는 그 자리에서 수정하고,
+     * 빠진 날짜는 삭제(예약자가 있으면 거부), 회차가 없는 새 날짜만 추가 (이미 시작한 회차의 날짜는 건너뜀).
+     */
+    public ScheduleSeriesResponse updateSeries(String email, Long seriesId, ScheduleSeriesRequest request) {
+        if (!request.isValidTime()) {
+            throw new BaseException(ErrorCode.INVALID_TIME_RANGE);
+        }
+
+        UserPrincipal principal = userIdentityResolver.resolve(email);
+        User instructor = userRepository.getReferenceById(principal.getUserId());
+        ScheduleSeries series = seriesRepository.findByIdAndInstructor(seriesId, instructor)
+                .orElseThrow(() -> new BaseException(ErrorCode.SERIES_NOT_FOUND));
+        Organization organization = series.getOrganization();
+        Long organizationId = organization != null ? organization.getId() : null;
+
+        RecurrenceRule rule = new RecurrenceRule(request.getDaysOfWeek(), request.getUntilDate());
+        Set<LocalDate> exceptions = exceptionDates(request);
+        LocalDateTime now = LocalDateTime.now();
+        Set<LocalDate> pendingDates = new LinkedHashSet<>();
+        for (LocalDate date : rule.expand(request.getStartDate(), exceptions, MAX_OCCURRENCES)) {
+            if (!date.atTime(request.getStartTime()).isBefore(now)) {
+                pendingDates.add(date);
+            }
+        }
+
+        series.update(request.getTitle(), request.getContent(), request.getMaxCapacity(), request.getStartDate(),
+                request.getStartTime(), request.getEndTime(), rule.format(), exceptions);
+
+        int updated = 0;
+        int deleted = 0;
+        List<Long> moved = new ArrayList<>();
+        // 오늘 0시부터 조회: 이미 시작한 오늘 회차도 날짜를 차지하므로 새 시작 시각이 미래라도 같은 날짜에 회차를 추가하지 않음
+        for (Schedule occurrence : scheduleRepository.findAllBySeriesIdAndStartTimeGreaterThanEqualOrderByStartTime(
+                seriesId, now.toLocalDate().atStartOfDay())) {
+            LocalDate date = occurrence.getStartTime().toLocalDate();
+            if (occurrence.getStartTime().isBefore(now)) {
+                pendingDates.remove(date); // 이미 시작한 회차는 수정/삭제하지 않고 그대로 둠
+                continue;
+            }
+            if (pendingDates.remove(date)) {
+                LocalDateTime start = date.atTime(request.getStartTime());
+                LocalDateTime end = date.atTime(request.getEndTime());
+                if (organizationId != null) {
+                    intervalIndex.move(organizationId, occurrence.getId(),
+                            principal.getUserId(), occurrence.getStartTime(), occurrence.getEndTime(),
+                            principal.getUserId(), start, end);
+                }
+                int previousCapacity = occurrence.getMaxCapacity();
+                if (!occurrence.getStartTime().equals(start)) {
+                    moved.add(occurrence.getId());
+                }
+                occurrence.update(request.getTitle(), request.getContent(), request.getMaxCapacity(), start, end);
+                seatLedger.invalidateAfterCommit(occurrence.getId());
+                if (request.getMaxCapacity() > previousCapacity) {
+                    enrollmentService.promoteWaitlistAfterCommit(occurrence.getId());
+                }
+                updated++;
+            } else {
+                // 대기자도 예약자와 같이 취급: 반복 규칙 수정으로 조용히 지우지 않음
+                if (enrollmentRepository.countByScheduleId(occurrence.getId()) > 0
+                        || waitlistRepository.existsByScheduleId(occurrence.getId())) {
+                    throw new BaseException(ErrorCode.SERIES_OCCURRENCE_ENROLLED);
+                }
+                scheduleRepository.delete(occurrence);
+                if (organizationId != null) {
+                    intervalIndex.removeAfterCommit(organizationId, principal.getUserId(), occurrence.getId(), occurrence.getStartTime());
+                }
+                deleted++;
+            }
+        }
+
+        if (!moved.isEmpty()) {
+            enrollmentRepository.syncScheduleStartTime(moved); // 시작 시각이 바뀐 회차의 예약 이력 정렬 기준 사본 갱신
+        }
+
+        int created = insertOccurrences(series, instructor, organization, principal, new ArrayList<>(pendingDates));
+        return new ScheduleSeriesResponse(seriesId, created, updated, deleted);
+    }
+
+    private int insertOccurrences(ScheduleSeries series, User instructor, Organization organization,
+                                  UserPrincipal principal, List<LocalDate> dates) {
+        long startedNanos = System.nanoTime();
+        List<ScheduleInterval> intervals = new ArrayList<>(dates.size());
+        List<Schedule> chunk = new ArrayList<>(FLUSH_CHUNK);
+
+        for (LocalDate date : dates) {
+            chunk.add(Schedule.builder()
+                    .title(series.getTitle())
+                    .content(series.getContent())
+                    .maxCapacity(series.getMaxCapacity())
+                    .currentParticipants(0)
+                    .startTime(date.atTime(series.getStartTime()))
+                    .endTime(date.atTime(series.getEndTime()))
+                    .instructor(instructor)
+                    .organization(organization)
+                    .series(series)
+                    .build());
+            if (chunk.size() == FLUSH_CHUNK) {
+                persistChunk(chunk, intervals);
+            }
+        }
+        persistChunk(chunk, intervals);
+
+        Long organizationId = organization != null ? organization.getId() : null;
+        if (organizationId != null && !intervals.isEmpty()) {
+            intervalIndex.addAll(organizationId, principal.getUserId(), intervals);
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+        log.info("Series {}: inserted {} occurrences in {} ms ({} rows/s)", series.getId(), dates.size(),
+                Math.round(elapsedSeconds * 1000), dates.isEmpty() ? 0 : Math.round(dates.size() / elapsedSeconds));
+        return dates.size();
+    }
+
+    // 시퀀스 ID는 persist 시점에 할당되고 INSERT는 flush 때 batch_size 단위로 전송됨
+    private void persistChunk(List<Schedule> chunk, List<ScheduleInterval> intervals) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        for (Schedule schedule : scheduleRepository.saveAll(chunk)) {
+            intervals.add(new ScheduleInterval(schedule.getId(), null, schedule.getStartTime(), schedule.getEndTime()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private static Set<LocalDate> exceptionDates(ScheduleSeriesRequest request) {
+        return request.getExceptionDates() != null ? request.getExceptionDates() : Set.of();
+    }
+}
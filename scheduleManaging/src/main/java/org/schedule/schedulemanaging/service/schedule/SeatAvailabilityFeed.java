@@ -0,0 +1,271 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.schedule.SeatCount;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 조직별 실시간 좌석 현황 SSE 피드.
+ * - 좌석 수가 바뀐 일정은 커밋 후 dirty로 표시만 하고, flush 주기마다 모아서 IN 조회 한 번으로 최신 값을 읽어 전송
+ *   (일정당 전송 횟수는 flush 주기로 제한: 250ms면 초당 최대 4회)
+ * - 대기 중인 연결은 서블릿 비동기 응답이라 스레드를 점유하지 않고, 전송만 가상 스레드에서 수행
+ *   (느린 클라이언트 하나가 다른 구독자 전송을 막지 않음)
+ * - 구독자마다 전송 스레드는 최대 하나(단일 소비자)라 이벤트 순서가 유지되고, 전송 중에 쌓인 변경은
+ *   일정별 최신 값만 남겨 다음 전송에 합침. 전송이 send-timeout 넘게 끝나지 않는 구독자는 끊음
+ * 이벤트 data 형식: [{"id":일정ID,"c":현재 인원,"m":정원}, ...]
+ */
+@Slf4j
+@Component
+public class SeatAvailabilityFeed {
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserIdentityResolver userIdentityResolver;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxSubscribers;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Set<Long> dirtySchedules = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("seat-feed-", 0).factory());
+
+    public SeatAvailabilityFeed(ScheduleRepository scheduleRepository,
+                                UserIdentityResolver userIdentityResolver,
+                                MeterRegistry meterRegistry,
+                                @Value("${spring.seat-feed.emitter-timeout:30m}") Duration emitterTimeout,
+                                @Value("${spring.seat-feed.send-timeout:10s}") Duration sendTimeout,
+                                @Value("${spring.seat-feed.max-subscribers:20000}") int maxSubscribers) {
+        this.scheduleRepository = scheduleRepository;
+        this.userIdentityResolver = userIdentityResolver;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxSubscribers = maxSubscribers;
+        Gauge.builder("seat.feed.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 요청자 조직의 좌석 피드 구독. 타임아웃 후에는 EventSource가 자동 재연결.
+     */
+    public SseEmitter subscribe(String email) {
+        Long organizationId = userIdentityResolver.requireOrganizationId(email);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BaseException(ErrorCode.SEAT_FEED_FULL);
+        }
+
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(organizationId, emitter);
+        subscribers.compute(organizationId, (id, current) -> {
+            Set<Subscriber> target = current != null ? current : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        Runnable remove = () -> unsubscribe(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    // 부하 테스트에서 전송 지연을 흉내 내는 emitter로 대체
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 좌석 수가 바뀐 일정을 커밋 후 전송 대상으로 표시 (롤백되면 표시하지 않음).
+     */
+    public void markDirtyAfterCommit(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markDirty(scheduleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markDirty(scheduleId);
+            }
+        });
+    }
+
+    public void markDirty(Long scheduleId) {
+        if (subscriberCount.get() > 0) {
+            dirtySchedules.add(scheduleId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.seat-feed.flush-interval-ms:250}")
+    public void flush() {
+        if (dirtySchedules.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(dirtySchedules);
+        ids.forEach(dirtySchedules::remove);
+
+        // 조직별 (일정 ID -> JSON 조각)
+        Map<Long, Map<Long, String>> updates = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            for (SeatCount seat : scheduleRepository.findSeatCounts(chunk)) {
+                if (seat.organizationId() == null || !subscribers.containsKey(seat.organizationId())) {
+                    continue;
+                }
+                updates.computeIfAbsent(seat.organizationId(), id -> new HashMap<>())
+                        .put(seat.scheduleId(), "{\"id\":" + seat.scheduleId()
+                                + ",\"c\":" + seat.currentParticipants()
+                                + ",\"m\":" + seat.maxCapacity() + "}");
+            }
+        }
+        updates.forEach((organizationId, seats) -> forEachSubscriber(organizationId, subscriber -> subscriber.offerSeats(seats)));
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료 방지 및 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${spring.seat-feed.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.keySet().forEach(organizationId -> forEachSubscriber(organizationId, Subscriber::offerPing));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(current -> current.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private void forEachSubscriber(Long organizationId, Consumer<Subscriber> action) {
+        Set<Subscriber> current = subscribers.get(organizationId);
+        if (current != null) {
+            current.forEach(action);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        // 빈 집합 제거와 신규 구독 추가가 엇갈리지 않도록 키 단위로 원자적으로 처리
+        subscribers.computeIfPresent(subscriber.organizationId, (id, current) -> {
+            if (current.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * 구독자 한 명의 전송 대기열. 보낼 내용은 일정별 최신 좌석 값(과 ping 여부)만 보관하고,
+     * drain 작업이 하나만 돌도록 해 전송 순서를 유지.
+     */
+    private final class Subscriber {
+
+        private final Long organizationId;
+        private final SseEmitter emitter;
+        private final Map<Long, String> pendingSeats = new ConcurrentHashMap<>();
+        private final AtomicBoolean pendingPing = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedNanos; // 0이면 전송 중 아님
+
+        private Subscriber(Long organizationId, SseEmitter emitter) {
+            this.organizationId = organizationId;
+            this.emitter = emitter;
+        }
+
+        void offerSeats(Map<Long, String> seats) {
+            pendingSeats.putAll(seats);
+            schedule();
+        }
+
+        void offerPing() {
+            pendingPing.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            long started = sendStartedNanos;
+            if (started != 0 && System.nanoTime() - started > sendTimeoutNanos) {
+                // 응답을 읽지 않는 클라이언트: 스레드가 더 쌓이지 않도록 끊고, 완료 처리도 전송 스레드에서 (막힌 send와 같은 잠금 대기)
+                drop(new IllegalStateException("send pending for more than " + Duration.ofNanos(sendTimeoutNanos)));
+                sender.execute(emitter::complete);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event = nextEvent();
+                if (event == null) {
+                    draining.set(false);
+                    // 플래그를 내리는 사이 들어온 변경은 여기서 이어서 처리 (다른 drain이 시작되지 않았을 때만)
+                    if ((pendingSeats.isEmpty() && !pendingPing.get()) || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                sendStartedNanos = System.nanoTime();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 끊긴 연결: onError/onCompletion 콜백이 호출되지 않는 경우를 대비해 직접 정리
+                    drop(e);
+                    return;
+                } finally {
+                    sendStartedNanos = 0;
+                }
+            }
+        }
+
+        // 좌석 변경이 있으면 한 이벤트로 합쳐 보내고 (ping 대체), 없으면 ping
+        private SseEmitter.SseEventBuilder nextEvent() {
+            if (!pendingSeats.isEmpty()) {
+                StringJoiner json = new StringJoiner(",", "[", "]");
+                for (Long scheduleId : List.copyOf(pendingSeats.keySet())) {
+                    String seat = pendingSeats.remove(scheduleId);
+                    if (seat != null) {
+                        json.add(seat);
+                    }
+                }
+                pendingPing.set(false);
+                return SseEmitter.event().name("seats").data(json.toString());
+            }
+            return pendingPing.getAndSet(false) ? SseEmitter.event().comment("ping") : null;
+        }
+
+        private void drop(Exception cause) {
+            unsubscribe(this);
+            pendingSeats.clear();
+            log.debug("Dropped seat feed subscriber for organization {}: {}", organizationId, cause.getMessage());
+        }
+    }
+}
@@ -23,8 +23,13 @@ public class InstructorSettlementService {
     public void processSettlement(User instructor, int year, int month) {
         String monthStr = String.format("%d-%02d", year, month);
 
+        // 재실행 시 uk_instructor_month 위반 대신 이미 정산된 강사는 건너뜀
+        if (settlementRepository.existsByInstructorAndSettlementMonth(instructor, monthStr)) {
+            return;
+        }
+
         InstructorSalaryConfig config = salaryConfigRepository.findByInstructor(instructor)
-                .orElseThrow(() -> new BaseException(ErrorCode.INTERNAL_SERVER_ERROR));
+                .orElseThrow(() -> new BaseException(ErrorCode.SALARY_CONFIG_NOT_FOUND));
 
         LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
         LocalDateTime end = start.plusMonths(1).minusNanos(1);
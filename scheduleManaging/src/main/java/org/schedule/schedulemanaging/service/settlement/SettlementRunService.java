@@ -0,0 +1,230 @@
+package org.schedule.schedulemanaging.service.settlement;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.settlement.InstructorSessionCount;
+import org.schedule.schedulemanaging.dto.settlement.SettlementRunResponse;
+import org.schedule.schedulemanaging.entity.InstructorSalaryConfig;
+import org.schedule.schedulemanaging.entity.SettlementRun;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.InstructorSalaryConfigRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.SettlementRunRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 강사 대상 월말 정산 배치 엔진.
+ * - 정산 대상 강사를 청크로 나누어 고정 크기 스레드 풀에서 병렬 처리 (동시 사용 커넥션 수 = parallelism)
+ * - 정산 레코드는 JdbcTemplate 배치 Insert로 저장 (IDENTITY 전략은 Hibernate 배치 Insert가 비활성화되므로 우회)
+ * - 청크 커밋 시 SettlementRun 진행 건수를 같은 트랜잭션에서 갱신하고, 재실행 시 미정산 강사만 다시 조회하여 이어서 처리
+ */
+@Slf4j
+@Service
+public class SettlementRunService {
+
+    // uk_instructor_month 충돌 시 건너뛰어 재실행/중복 실행에도 안전하도록 처리
+    private static final String INSERT_SETTLEMENT_SQL =
+            "INSERT INTO instructor_settlement (instructor_id, settlement_month, total_base_salary, total_session_count, " +
+            "total_incentive, final_amount, settled_at) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (instructor_id, settlement_month) DO NOTHING";
+
+    // 배치 결과에 건수가 없을 때(reWriteBatchedInserts로 묶인 경우) 이번 청크가 실제로 넣은 행 수 확인
+    private static final String COUNT_INSERTED_SQL =
+            "SELECT COUNT(*) FROM instructor_settlement WHERE settlement_month = ? AND settled_at = ? AND instructor_id = ANY (?)";
+
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final InstructorSalaryConfigRepository salaryConfigRepository;
+    private final SettlementRunRepository settlementRunRepository;
+    private final UserIdentityResolver userIdentityResolver;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    // 같은 노드에서 동일 월 정산이 중복 실행되는 것을 방지
+    private final Set<String> runningMonths = ConcurrentHashMap.newKeySet();
+
+    public SettlementRunService(
+            UserRepository userRepository,
+            ScheduleRepository scheduleRepository,
+            InstructorSalaryConfigRepository salaryConfigRepository,
+            SettlementRunRepository settlementRunRepository,
+            UserIdentityResolver userIdentityResolver,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.settlement.batch.chunk-size:500}") int chunkSize,
+            @Value("${spring.settlement.batch.parallelism:4}") int parallelism) {
+        this.userRepository = userRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.salaryConfigRepository = salaryConfigRepository;
+        this.settlementRunRepository = settlementRunRepository;
+        this.userIdentityResolver = userIdentityResolver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * API 요청으로 실행하는 월말 정산. 전체 조직의 강사를 대상으로 하므로 관리자(ADMIN)만 가능.
+     */
+    public SettlementRunResponse runMonthlySettlement(String email, int year, int month) {
+        userIdentityResolver.requireRole(email, ErrorCode.NOT_ADMIN, User.Role.ADMIN);
+        return runMonthlySettlement(year, month);
+    }
+
+    public SettlementRunResponse runMonthlySettlement(int year, int month) {
+        String monthStr = String.format("%d-%02d", year, month);
+        if (!runningMonths.add(monthStr)) {
+            throw new BaseException(ErrorCode.SETTLEMENT_IN_PROGRESS);
+        }
+
+        try {
+            SettlementRun run = transactionTemplate.execute(status -> startOrResume(monthStr));
+            if (run.getStatus() == SettlementRun.Status.COMPLETED) {
+                return toResponse(run, 0, 0, 0);
+            }
+
+            LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
+            LocalDateTime end = start.plusMonths(1);
+            long startedNanos = System.nanoTime();
+
+            // 체크포인트: 이미 정산 레코드가 있는 강사는 제외하고 남은 강사만 처리
+            List<Long> instructorIds = userRepository.findUnsettledInstructorIds(monthStr);
+            List<List<Long>> chunks = partition(instructorIds);
+            log.info("Settlement run {} started: {} instructors remaining, {} chunks", monthStr, instructorIds.size(), chunks.size());
+
+            long failedChunks = 0;
+            try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+                List<Future<?>> futures = new ArrayList<>(chunks.size());
+                for (List<Long> chunk : chunks) {
+                    futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(
+                            status -> settleChunk(run.getId(), monthStr, chunk, start, end))));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        failedChunks++;
+                        log.error("Settlement chunk failed for {}: ", monthStr, e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedChunks = chunks.size();
+            }
+
+            long elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+            boolean success = failedChunks == 0;
+            SettlementRun finished = transactionTemplate.execute(status -> {
+                SettlementRun current = settlementRunRepository.findById(run.getId()).orElseThrow();
+                current.finish(success);
+                return current;
+            });
+
+            SettlementRunResponse response = toResponse(finished, failedChunks, instructorIds.size(), elapsedMillis);
+            log.info("Settlement run {} {}: {} instructors in {} ms ({} instructors/s)",
+                    monthStr, finished.getStatus(), instructorIds.size(), elapsedMillis,
+                    String.format("%.1f", response.getInstructorsPerSecond()));
+            return response;
+        } finally {
+            runningMonths.remove(monthStr);
+        }
+    }
+
+    private SettlementRun startOrResume(String monthStr) {
+        SettlementRun run = settlementRunRepository.findBySettlementMonth(monthStr)
+                .orElseGet(() -> SettlementRun.builder()
+                        .settlementMonth(monthStr)
+                        .status(SettlementRun.Status.RUNNING)
+                        .startedAt(LocalDateTime.now())
+                        .build());
+        if (run.getId() != null && run.getStatus() != SettlementRun.Status.COMPLETED) {
+            log.info("Resuming settlement run {} from checkpoint (processed={})", monthStr, run.getProcessedCount());
+            run.resume();
+        }
+        return settlementRunRepository.save(run);
+    }
+
+    private void settleChunk(Long runId, String monthStr, List<Long> instructorIds, LocalDateTime start, LocalDateTime end) {
+        Map<Long, InstructorSalaryConfig> configs = salaryConfigRepository.findAllByInstructorIdIn(instructorIds).stream()
+                .collect(Collectors.toMap(config -> config.getInstructor().getId(), Function.identity()));
+        Map<Long, Long> sessionCounts = scheduleRepository.countSessionsGroupByInstructorIn(instructorIds, start, end).stream()
+                .collect(Collectors.toMap(InstructorSessionCount::getInstructorId, InstructorSessionCount::getSessionCount));
+
+        Timestamp settledAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(instructorIds.size());
+        for (Long instructorId : instructorIds) {
+            InstructorSalaryConfig config = configs.get(instructorId);
+            if (config == null) {
+                // 급여 설정이 없는 강사는 정산 불가 -> 건너뛰고 집계만 남김
+                continue;
+            }
+            long sessionCount = sessionCounts.getOrDefault(instructorId, 0L);
+            BigDecimal totalIncentive = config.getIncentivePerSession().multiply(BigDecimal.valueOf(sessionCount));
+            BigDecimal finalAmount = config.getBaseSalary().add(totalIncentive);
+            rows.add(new Object[]{instructorId, monthStr, config.getBaseSalary(), sessionCount, totalIncentive, finalAmount, settledAt});
+        }
+
+        int inserted = countInserted(jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_SQL, rows), monthStr, settledAt, instructorIds);
+        // 급여 설정이 없거나 다른 실행이 이미 정산한(ON CONFLICT로 건너뛴) 강사는 skipped로 집계
+        settlementRunRepository.addProgress(runId, inserted, instructorIds.size() - inserted, LocalDateTime.now());
+    }
+
+    private int countInserted(int[] results, String monthStr, Timestamp settledAt, List<Long> instructorIds) {
+        int inserted = 0;
+        for (int result : results) {
+            if (result == Statement.SUCCESS_NO_INFO) {
+                Integer count = jdbcTemplate.queryForObject(COUNT_INSERTED_SQL, Integer.class,
+                        monthStr, settledAt, instructorIds.toArray(Long[]::new));
+                return count != null ? count : 0;
+            }
+            inserted += Math.max(result, 0);
+        }
+        return inserted;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            chunks.add(ids.subList(i, Math.min(i + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private SettlementRunResponse toResponse(SettlementRun run, long failedChunks, long handledCount, long elapsedMillis) {
+        return SettlementRunResponse.builder()
+                .month(run.getSettlementMonth())
+                .status(run.getStatus())
+                .processedCount(run.getProcessedCount())
+                .skippedCount(run.getSkippedCount())
+                .failedChunkCount(failedChunks)
+                .elapsedMillis(elapsedMillis)
+                .instructorsPerSecond(elapsedMillis > 0 ? handledCount * 1000.0 / elapsedMillis : 0)
+                .build();
+    }
+}
@@ -2,11 +2,11 @@ package org.schedule.schedulemanaging.service.settlement;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.entity.NotificationOutbox;
 import org.schedule.schedulemanaging.entity.Subscription;
 import org.schedule.schedulemanaging.entity.User;
 import org.schedule.schedulemanaging.repository.UserRepository;
-import org.schedule.schedulemanaging.service.notification.NotificationService;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.schedule.schedulemanaging.service.notification.NotificationOutboxService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,20 +15,11 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SettlementService {
 
     private final UserRepository userRepository;
-    private final NotificationService alimtalkService;
-    private final NotificationService emailService;
-
-    public SettlementService(
-            UserRepository userRepository,
-            @Qualifier("alimtalkNotificationService") NotificationService alimtalkService,
-            @Qualifier("emailNotificationService") NotificationService emailService) {
-        this.userRepository = userRepository;
-        this.alimtalkService = alimtalkService;
-        this.emailService = emailService;
-    }
+    private final NotificationOutboxService outboxService;
 
     /**
      * 정산(결제 성공) 시 처리 로직.
@@ -42,8 +33,8 @@ public class SettlementService {
 
         // 1. 결제 정보 검증 및 DB 업데이트 (Subscription 엔티티 등)
         // 2. 알림톡 발송
-        alimtalkService.send(email, "[SaaS] 결제 완료", "고객님, " + plan + " 요금제 결제가 완료되었습니다.");
+        outboxService.enqueue(NotificationOutbox.Channel.ALIMTALK, email, "[SaaS] 결제 완료", "고객님, " + plan + " 요금제 결제가 완료되었습니다.");
         // 3. 이메일 발송
-        emailService.send(email, "[SaaS] 결제 영수증", "회원님의 서비스 이용 정산이 완료되었습니다. 자세한 내역은 대시보드에서 확인하세요.");
+        outboxService.enqueue(NotificationOutbox.Channel.EMAIL, email, "[SaaS] 결제 영수증", "회원님의 서비스 이용 정산이 완료되었습니다. 자세한 내역은 대시보드에서 확인하세요.");
     }
 }
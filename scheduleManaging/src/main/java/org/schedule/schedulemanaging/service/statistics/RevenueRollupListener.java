@@ -0,0 +1,25 @@
+package org.schedule.schedulemanaging.service.statistics;
+
+import jakarta.persistence.PostPersist;
+import org.schedule.schedulemanaging.entity.MembershipPurchase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * MembershipPurchase 저장 시 같은 트랜잭션에서 일자별 매출 롤업에 증분 반영.
+ * (EntityManagerFactory 초기화 순환을 피하기 위해 ObjectProvider로 지연 조회)
+ */
+@Component
+public class RevenueRollupListener {
+
+    private final ObjectProvider<RevenueRollupService> rollupService;
+
+    public RevenueRollupListener(ObjectProvider<RevenueRollupService> rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @PostPersist
+    public void onPurchase(MembershipPurchase purchase) {
+        rollupService.getObject().applyPurchase(purchase);
+    }
+}
@@ -0,0 +1,113 @@
+package org.schedule.schedulemanaging.service.statistics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.schedule.schedulemanaging.entity.MembershipPurchase;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * 일자별 매출 롤업(revenue_daily_rollups) 유지.
+ * - 증분: 구매 1건마다 (조직, 일자, 상품) 행에 UPSERT로 누적
+ * - 재구성: 기간 내 롤업을 지우고 membership_purchases에서 다시 집계 (백필 및 야간 보정)
+ * 재구성 중 들어온 구매가 누락/중복되지 않도록 조직 단위 advisory 잠금 사용
+ * (구매는 공유 잠금이라 서로 막지 않고, 재구성만 배타 잠금으로 진행 중인 구매 커밋을 기다림).
+ */
+@Slf4j
+@Service
+public class RevenueRollupService {
+
+    private static final int LOCK_NAMESPACE = 17_001;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO revenue_daily_rollups (organization_id, rollup_date, product_name, revenue, purchase_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, 1, ?) " +
+            "ON CONFLICT (organization_id, rollup_date, product_name) DO UPDATE SET " +
+            "revenue = revenue_daily_rollups.revenue + EXCLUDED.revenue, " +
+            "purchase_count = revenue_daily_rollups.purchase_count + 1, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM revenue_daily_rollups WHERE organization_id = ? AND rollup_date >= ? AND rollup_date < ?";
+
+    private static final String REBUILD_RANGE_SQL =
+            "INSERT INTO revenue_daily_rollups (organization_id, rollup_date, product_name, revenue, purchase_count, updated_at) " +
+            "SELECT organization_id, CAST(purchased_at AS date), COALESCE(product_name, ''), SUM(COALESCE(amount, 0)), COUNT(*), now() " +
+            "FROM membership_purchases " +
+            "WHERE organization_id = ? AND purchased_at >= ? AND purchased_at < ? " +
+            "GROUP BY organization_id, CAST(purchased_at AS date), COALESCE(product_name, '')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrganizationRepository organizationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RevenueRollupService(JdbcTemplate jdbcTemplate,
+                                OrganizationRepository organizationRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.organizationRepository = organizationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 구매 INSERT와 같은 트랜잭션에서 실행 (RevenueRollupListener)
+    public void applyPurchase(MembershipPurchase purchase) {
+        if (purchase.getOrganization() == null || purchase.getPurchasedAt() == null) {
+            return;
+        }
+        Long organizationId = purchase.getOrganization().getId();
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock_shared(?, ?)", LOCK_NAMESPACE, Long.hashCode(organizationId));
+        jdbcTemplate.update(UPSERT_SQL,
+                organizationId,
+                Date.valueOf(purchase.getPurchasedAt().toLocalDate()),
+                purchase.getProductName() != null ? purchase.getProductName() : "",
+                purchase.getAmount() != null ? purchase.getAmount() : 0L,
+                new Timestamp(System.currentTimeMillis()));
+    }
+
+    /**
+     * 조직의 [from, to) 기간 롤업을 원본 구매 내역으로 다시 집계. 반환값은 재작성된 롤업 행 수.
+     * 한 달씩 별도 트랜잭션으로 처리해 배타 잠금(구매 대기)과 트랜잭션 크기를 월 단위로 제한.
+     */
+    public int rebuild(Long organizationId, LocalDate from, LocalDate to) {
+        int total = 0;
+        LocalDate start = from;
+        while (start.isBefore(to)) {
+            LocalDate nextMonth = start.withDayOfMonth(1).plusMonths(1);
+            LocalDate end = nextMonth.isBefore(to) ? nextMonth : to;
+            total += rebuildWindow(organizationId, start, end);
+            start = end;
+        }
+        log.info("Rebuilt revenue rollups for organization {} [{}, {}): {} rows", organizationId, from, to, total);
+        return total;
+    }
+
+    private int rebuildWindow(Long organizationId, LocalDate from, LocalDate to) {
+        Integer rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, ?)", LOCK_NAMESPACE, Long.hashCode(organizationId));
+            jdbcTemplate.update(DELETE_RANGE_SQL, organizationId, Date.valueOf(from), Date.valueOf(to));
+            return jdbcTemplate.update(REBUILD_RANGE_SQL, organizationId,
+                    Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        });
+        return rows != null ? rows : 0;
+    }
+
+    public void rebuildAll(LocalDate from, LocalDate to) {
+        for (Long organizationId : organizationRepository.findAllIds()) {
+            rebuild(organizationId, from, to);
+        }
+    }
+
+    // 야간 보정: 최근 이틀치를 원본 기준으로 다시 맞춤 (증분 반영 이후 수정/삭제된 구매 대비)
+    @Scheduled(cron = "${spring.statistics.rollup.rebuild-cron:0 15 4 * * *}")
+    public void rebuildRecent() {
+        LocalDate today = LocalDate.now();
+        rebuildAll(today.minusDays(2), today.plusDays(1));
+    }
+}
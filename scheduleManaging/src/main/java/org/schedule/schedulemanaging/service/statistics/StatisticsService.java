@@ -1,27 +1,145 @@
 package org.schedule.schedulemanaging.service.statistics;
 
 import lombok.RequiredArgsConstructor;
-import org.schedule.schedulemanaging.repository.MembershipPurchaseRepository;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.statistics.ProductRevenue;
+import org.schedule.schedulemanaging.dto.statistics.RevenueBucket;
+import org.schedule.schedulemanaging.dto.statistics.RevenuePoint;
+import org.schedule.schedulemanaging.dto.statistics.RevenueSeriesResponse;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.RevenueDailyRollupRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.schedule.schedulemanaging.security.UserPrincipal;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * 매출 통계. membership_purchases를 직접 스캔하지 않고 일자별 롤업(revenue_daily_rollups)에서 집계.
+ */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class StatisticsService {
-    private final MembershipPurchaseRepository purchaseRepository;
 
-    public Map<String, Object> getMonthlyRevenue(Long orgId, int year, int month) {
-        LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
-        LocalDateTime end = start.plusMonths(1).minusNanos(1);
+    public static final int MAX_MONTHS = 60;
+
+    private static final Set<String> MANAGER_ROLES = Set.of(User.Role.USER.name(), User.Role.ADMIN.name());
+
+    private final RevenueDailyRollupRepository rollupRepository;
+    private final RevenueRollupService rollupService;
+    private final UserIdentityResolver userIdentityResolver;
 
-        Long totalRevenue = purchaseRepository.sumAmountByOrganizationAndDate(orgId, start, end);
+    public Map<String, Object> getMonthlyRevenue(Long orgId, int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        RevenueSeriesResponse series = monthlySeries(orgId, period, period);
 
         return Map.of(
             "organizationId", orgId,
             "period", year + "-" + month,
-            "totalRevenue", totalRevenue != null ? totalRevenue : 0L
+            "totalRevenue", series.getTotalRevenue()
         );
     }
+
+    /**
+     * 요청자 조직의 월별 매출 시계열 [from, to] (양끝 포함, 매출 없는 달은 0).
+     */
+    public RevenueSeriesResponse getMonthlySeries(String email, YearMonth from, YearMonth to) {
+        return monthlySeries(userIdentityResolver.requireOrganizationId(email), from, to);
+    }
+
+    /**
+     * 요청자 조직의 연도별 매출 시계열 [fromYear, toYear].
+     */
+    public RevenueSeriesResponse getYearlySeries(String email, int fromYear, int toYear) {
+        Long organizationId = userIdentityResolver.requireOrganizationId(email);
+        validateRange(YearMonth.of(fromYear, 1), YearMonth.of(toYear, 12), MAX_MONTHS * 2);
+
+        List<RevenueBucket> buckets = rollupRepository.sumByYear(organizationId,
+                LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear + 1, 1, 1));
+        Map<Integer, RevenueBucket> byYear = new HashMap<>();
+        for (RevenueBucket bucket : buckets) {
+            byYear.put(bucket.year(), bucket);
+        }
+
+        List<RevenuePoint> points = new ArrayList<>(toYear - fromYear + 1);
+        for (int year = fromYear; year <= toYear; year++) {
+            points.add(toPoint(String.valueOf(year), byYear.get(year)));
+        }
+        return toResponse(organizationId, points);
+    }
+
+    /**
+     * 요청자 조직의 기간 [from, to] 상품별 매출 (매출 내림차순).
+     */
+    public List<ProductRevenue> getProductRevenue(String email, YearMonth from, YearMonth to) {
+        Long organizationId = userIdentityResolver.requireOrganizationId(email);
+        validateRange(from, to, MAX_MONTHS);
+        return rollupRepository.sumByProduct(organizationId, from.atDay(1), to.plusMonths(1).atDay(1));
+    }
+
+    /**
+     * 요청자 조직의 롤업을 [from, to) 기간에 대해 원본 구매 내역으로 재구성 (백필/보정용).
+     * 운영자(USER)/관리자(ADMIN)만 가능하고, 기간은 조회 API와 같이 최대 MAX_MONTHS개월.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildRollups(String email, LocalDate from, LocalDate to) {
+        UserPrincipal requester = userIdentityResolver.resolve(email);
+        if (!MANAGER_ROLES.contains(requester.getRole())) {
+            throw new BaseException(ErrorCode.NOT_MANAGER);
+        }
+        Long organizationId = userIdentityResolver.requireOrganizationId(email);
+        if (!from.isBefore(to)) {
+            throw new BaseException(ErrorCode.INVALID_STATISTICS_RANGE);
+        }
+        validateRange(YearMonth.from(from), YearMonth.from(to.minusDays(1)), MAX_MONTHS);
+        return rollupService.rebuild(organizationId, from, to);
+    }
+
+    private RevenueSeriesResponse monthlySeries(Long organizationId, YearMonth from, YearMonth to) {
+        validateRange(from, to, MAX_MONTHS);
+
+        List<RevenueBucket> buckets = rollupRepository.sumByMonth(organizationId,
+                from.atDay(1), to.plusMonths(1).atDay(1));
+        Map<YearMonth, RevenueBucket> byMonth = new HashMap<>();
+        for (RevenueBucket bucket : buckets) {
+            byMonth.put(YearMonth.of(bucket.year(), bucket.month()), bucket);
+        }
+
+        List<RevenuePoint> points = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            points.add(toPoint(month.toString(), byMonth.get(month)));
+        }
+        return toResponse(organizationId, points);
+    }
+
+    private void validateRange(YearMonth from, YearMonth to, int maxMonths) {
+        if (from.isAfter(to) || ChronoUnit.MONTHS.between(from, to) >= maxMonths) {
+            throw new BaseException(ErrorCode.INVALID_STATISTICS_RANGE);
+        }
+    }
+
+    private RevenuePoint toPoint(String period, RevenueBucket bucket) {
+        return bucket == null
+                ? new RevenuePoint(period, 0L, 0L)
+                : new RevenuePoint(period, bucket.revenue(), bucket.purchaseCount());
+    }
+
+    private RevenueSeriesResponse toResponse(Long organizationId, List<RevenuePoint> points) {
+        long total = 0L;
+        for (RevenuePoint point : points) {
+            total += point.getRevenue();
+        }
+        return new RevenueSeriesResponse(organizationId, points, total);
+    }
 }
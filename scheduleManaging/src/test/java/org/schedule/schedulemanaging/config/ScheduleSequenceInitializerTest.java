@@ -0,0 +1,57 @@
+package org.schedule.schedulemanaging.config;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.entity.Schedule;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSequenceInitializerTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ScheduleSequenceInitializer initializer;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sequenceBehindMaxIdIsAlignedOnceAndInsertsSucceed() {
+        User instructor = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@sequence.test")
+                .password("password")
+                .name("instructor")
+                .role(User.Role.INSTRUCTOR)
+                .build());
+        Long existingId = scheduleRepository.save(schedule(instructor)).getId();
+
+        // IDENTITY에서 전환한 직후처럼 시퀀스를 처음으로 되돌림
+        jdbcTemplate.queryForObject("SELECT setval('schedule_seq', 1, false)", Long.class);
+
+        assertThat(initializer.align()).isTrue();
+        assertThat(initializer.align()).isFalse();
+        // 다음에 할당되는 구간의 첫 ID (pooled: nextval - 49)가 기존 ID와 겹치지 않아야 함
+        Long nextId = jdbcTemplate.queryForObject("SELECT nextval('schedule_seq')", Long.class) - 49;
+        assertThat(nextId).isGreaterThan(existingId);
+    }
+
+    private Schedule schedule(User instructor) {
+        return Schedule.builder()
+                .title("class")
+                .startTime(LocalDateTime.of(2026, 3, 2, 10, 0))
+                .endTime(LocalDateTime.of(2026, 3, 2, 11, 0))
+                .instructor(instructor)
+                .maxCapacity(10)
+                .build();
+    }
+}
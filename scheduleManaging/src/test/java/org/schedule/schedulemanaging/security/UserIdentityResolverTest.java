@@ -0,0 +1,65 @@
+package org.schedule.schedulemanaging.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserIdentityResolverTest {
+
+    private static final String EMAIL = "member@test.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserIdentityResolver resolver =
+            new UserIdentityResolver(userRepository, 100, Duration.ofMinutes(5), 100, Duration.ofDays(1).toMillis());
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsAreTrustedWhileUserIsUnchanged() {
+        authenticate(new UserPrincipal(1L, 7L, EMAIL, "member", "ADMIN", System.currentTimeMillis()));
+
+        assertThat(resolver.resolve(EMAIL).getRole()).isEqualTo("ADMIN");
+        verify(userRepository, never()).findPrincipalByEmail(EMAIL);
+    }
+
+    @Test
+    void claimsIssuedBeforeChangeFallBackToDatabase() {
+        authenticate(new UserPrincipal(1L, 7L, EMAIL, "member", "ADMIN", System.currentTimeMillis() - 60_000));
+        when(userRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.of(new UserPrincipal(1L, 7L, EMAIL, "member", "MEMBER")));
+
+        resolver.markChanged(1L); // 관리자 -> 회원으로 강등
+
+        assertThat(resolver.resolve(EMAIL).getRole()).isEqualTo("MEMBER");
+    }
+
+    @Test
+    void claimsIssuedAfterChangeAreTrustedAgain() throws InterruptedException {
+        resolver.markChanged(1L);
+        Thread.sleep(1_000); // iat는 초 단위
+        authenticate(new UserPrincipal(1L, 7L, EMAIL, "member", "MEMBER", System.currentTimeMillis()));
+
+        assertThat(resolver.resolve(EMAIL).getRole()).isEqualTo("MEMBER");
+        verify(userRepository, never()).findPrincipalByEmail(EMAIL);
+    }
+
+    private void authenticate(UserPrincipal principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", List.of()));
+    }
+}
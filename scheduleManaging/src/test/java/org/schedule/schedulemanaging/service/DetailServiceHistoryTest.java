@@ -0,0 +1,99 @@
+package org.schedule.schedulemanaging.service;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.response.CursorResponse;
+import org.schedule.schedulemanaging.dto.detail.MemberScheduleHistoryResponse;
+import org.schedule.schedulemanaging.entity.Enrollment;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.Schedule;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DetailServiceHistoryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private DetailService detailService;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Test
+    void historyPagesFollowStartTimeNotScheduleId() {
+        String prefix = UUID.randomUUID().toString();
+        Organization organization = organizationRepository.save(Organization.builder().name(prefix).build());
+        User admin = userRepository.save(user(prefix + "-admin", User.Role.ADMIN, organization));
+        User instructor = userRepository.save(user(prefix + "-instructor", User.Role.INSTRUCTOR, organization));
+        User member = userRepository.save(user(prefix + "-member", User.Role.MEMBER, organization));
+
+        // 나중에 시작하는 일정을 먼저 생성해 일정 ID 순서와 시작 시각 순서를 어긋나게 함 (같은 시각 2건 포함)
+        List<LocalDateTime> starts = List.of(
+                LocalDateTime.of(2026, 3, 5, 10, 0),
+                LocalDateTime.of(2026, 3, 1, 10, 0),
+                LocalDateTime.of(2026, 3, 3, 10, 0),
+                LocalDateTime.of(2026, 3, 3, 10, 0),
+                LocalDateTime.of(2026, 3, 4, 10, 0));
+        List<Schedule> schedules = new ArrayList<>();
+        for (LocalDateTime start : starts) {
+            schedules.add(scheduleRepository.save(Schedule.builder()
+                    .title("class")
+                    .startTime(start)
+                    .endTime(start.plusHours(1))
+                    .instructor(instructor)
+                    .organization(organization)
+                    .maxCapacity(10)
+                    .build()));
+        }
+        for (Schedule schedule : schedules) {
+            enrollmentRepository.save(Enrollment.builder()
+                    .schedule(schedule)
+                    .member(member)
+                    .enrolledAt(LocalDateTime.now())
+                    .scheduleStartTime(schedule.getStartTime())
+                    .attendanceStatus(Enrollment.AttendanceStatus.PENDING)
+                    .build());
+        }
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<MemberScheduleHistoryResponse> page =
+                    detailService.getMemberSchedules(admin.getEmail(), member.getId(), cursor, 2);
+            page.getItems().forEach(item -> visited.add(item.getScheduleId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(visited).containsExactly(
+                schedules.get(0).getId(),
+                schedules.get(4).getId(),
+                schedules.get(3).getId(),
+                schedules.get(2).getId(),
+                schedules.get(1).getId());
+    }
+
+    private User user(String name, User.Role role, Organization organization) {
+        return User.builder()
+                .email(name + "@history.test")
+                .password("password")
+                .name(name)
+                .role(role)
+                .organization(organization)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package org.schedule.schedulemanaging.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.dto.instructor.InstructorResponse;
+import org.schedule.schedulemanaging.entity.InstructorSalaryConfig;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.InstructorSalaryConfigRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstructorServiceQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private InstructorService instructorService;
+    @Autowired
+    private UserIdentityResolver userIdentityResolver;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private InstructorSalaryConfigRepository salaryConfigRepository;
+
+    private Organization organization;
+    private String adminEmail;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString();
+        organization = organizationRepository.save(Organization.builder().name(prefix).build());
+        adminEmail = prefix + "@admin.test";
+        userRepository.save(User.builder()
+                .email(adminEmail)
+                .password("password")
+                .name("admin")
+                .role(User.Role.ADMIN)
+                .organization(organization)
+                .build());
+        // 요청자 식별 정보는 캐시에 미리 적재 (측정 대상은 강사 목록 조회)
+        userIdentityResolver.requireOrganizationId(adminEmail);
+    }
+
+    @Test
+    void instructorPageQueryCountDoesNotGrowWithInstructors() {
+        PageRequest page = PageRequest.of(1, 3);
+
+        seedInstructors(5);
+        long few = countStatements(() -> instructorService.getInstructors(adminEmail, page));
+
+        seedInstructors(1_000);
+        long many = countStatements(() -> {
+            Page<InstructorResponse> result = instructorService.getInstructors(adminEmail, page);
+            assertThat(result.getTotalElements()).isEqualTo(1_005);
+            assertThat(result.getContent()).hasSize(3)
+                    .allSatisfy(instructor -> assertThat(instructor.getBasic_pay()).isEqualByComparingTo("1000000"));
+        });
+
+        // 강사 + 급여 설정 조인 목록, COUNT
+        assertThat(few).isEqualTo(2);
+        assertThat(many).isEqualTo(few);
+    }
+
+    private void seedInstructors(int count) {
+        String prefix = UUID.randomUUID().toString();
+        List<User> instructors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            instructors.add(User.builder()
+                    .email(prefix + "-" + i + "@instructor.test")
+                    .password("password")
+                    .name("instructor" + i)
+                    .role(User.Role.INSTRUCTOR)
+                    .organization(organization)
+                    .build());
+        }
+        userRepository.saveAll(instructors);
+
+        List<InstructorSalaryConfig> configs = new ArrayList<>();
+        for (User instructor : instructors) {
+            configs.add(InstructorSalaryConfig.builder()
+                    .instructor(instructor)
+                    .baseSalary(BigDecimal.valueOf(1_000_000))
+                    .incentivePerSession(BigDecimal.valueOf(30_000))
+                    .build());
+        }
+        salaryConfigRepository.saveAll(configs);
+    }
+}
@@ -0,0 +1,79 @@
+package org.schedule.schedulemanaging.service;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.entity.InstructorSalaryConfig;
+import org.schedule.schedulemanaging.entity.Schedule;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.InstructorSalaryConfigRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayrollSettlementServiceQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PayrollSettlementService payrollSettlementService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private InstructorSalaryConfigRepository salaryConfigRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void monthlySettlementQueryCountDoesNotGrowWithInstructors() {
+        seedInstructors(5);
+        long few = countStatements(() -> payrollSettlementService.getMonthlySettlements(2026, 3));
+
+        seedInstructors(200);
+        long many = countStatements(() -> payrollSettlementService.getMonthlySettlements(2026, 3));
+
+        // 강사 목록, 급여 설정, 수업 횟수 집계
+        assertThat(few).isEqualTo(3);
+        assertThat(many).isEqualTo(few);
+    }
+
+    private void seedInstructors(int count) {
+        String prefix = UUID.randomUUID().toString();
+        List<User> instructors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            instructors.add(User.builder()
+                    .email(prefix + "-" + i + "@payroll.test")
+                    .password("password")
+                    .name("instructor" + i)
+                    .role(User.Role.INSTRUCTOR)
+                    .build());
+        }
+        userRepository.saveAll(instructors);
+
+        List<InstructorSalaryConfig> configs = new ArrayList<>();
+        List<Schedule> schedules = new ArrayList<>();
+        for (User instructor : instructors) {
+            configs.add(InstructorSalaryConfig.builder()
+                    .instructor(instructor)
+                    .baseSalary(BigDecimal.valueOf(1_000_000))
+                    .incentivePerSession(BigDecimal.valueOf(30_000))
+                    .build());
+            for (int day = 1; day <= 3; day++) {
+                schedules.add(Schedule.builder()
+                        .title("class")
+                        .startTime(LocalDateTime.of(2026, 3, day, 10, 0))
+                        .endTime(LocalDateTime.of(2026, 3, day, 11, 0))
+                        .instructor(instructor)
+                        .maxCapacity(10)
+                        .build());
+            }
+        }
+        salaryConfigRepository.saveAll(configs);
+        scheduleRepository.saveAll(schedules);
+    }
+}
@@ -0,0 +1,143 @@
+package org.schedule.schedulemanaging.service.attendance;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.attendance.AttendanceBulkRequest;
+import org.schedule.schedulemanaging.entity.Enrollment;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.Schedule;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttendanceServiceQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int STUDENTS = 30;
+
+    @Autowired
+    private AttendanceService attendanceService;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String prefix;
+    private Organization organization;
+    private User instructor;
+
+    @Test
+    void bulkAttendanceRunsOneCheckPlusOneUpdatePerStatus() {
+        setUpTenant();
+        Schedule schedule = schedule();
+        List<Enrollment> enrollments = enroll(schedule, STUDENTS);
+
+        // 출석 20명, 결석 10명 -> 존재 확인 SELECT 1회 + 상태별 UPDATE 2회
+        List<AttendanceBulkRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            items.add(new AttendanceBulkRequest.Item(enrollments.get(i).getId(),
+                    i < 20 ? Enrollment.AttendanceStatus.ATTENDED : Enrollment.AttendanceStatus.ABSENT));
+        }
+
+        int[] updated = new int[1];
+        long statements = countStatements(() -> updated[0] = attendanceService.markAttendanceBulk(
+                instructor.getEmail(), schedule.getId(), new AttendanceBulkRequest(items)));
+
+        assertThat(updated[0]).isEqualTo(STUDENTS);
+        assertThat(statements).isEqualTo(3);
+        assertThat(countByStatus(schedule, "ATTENDED")).isEqualTo(20);
+        assertThat(countByStatus(schedule, "ABSENT")).isEqualTo(10);
+    }
+
+    @Test
+    void enrollmentFromAnotherScheduleRollsBackTheWholeBatch() {
+        setUpTenant();
+        Schedule schedule = schedule();
+        Schedule other = schedule();
+        List<Enrollment> enrollments = enroll(schedule, 3);
+        Enrollment foreign = enroll(other, 1).get(0);
+
+        AttendanceBulkRequest request = new AttendanceBulkRequest(List.of(
+                new AttendanceBulkRequest.Item(enrollments.get(0).getId(), Enrollment.AttendanceStatus.ATTENDED),
+                new AttendanceBulkRequest.Item(enrollments.get(1).getId(), Enrollment.AttendanceStatus.ATTENDED),
+                new AttendanceBulkRequest.Item(enrollments.get(2).getId(), Enrollment.AttendanceStatus.ABSENT),
+                new AttendanceBulkRequest.Item(foreign.getId(), Enrollment.AttendanceStatus.ATTENDED)));
+
+        assertThatThrownBy(() -> attendanceService.markAttendanceBulk(instructor.getEmail(), schedule.getId(), request))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ENROLLMENT_NOT_FOUND);
+
+        // 앞서 실행된 UPDATE까지 모두 롤백
+        assertThat(countByStatus(schedule, "PENDING")).isEqualTo(3);
+        assertThat(countByStatus(other, "PENDING")).isEqualTo(1);
+    }
+
+    private void setUpTenant() {
+        prefix = UUID.randomUUID().toString();
+        organization = organizationRepository.save(Organization.builder().name(prefix).build());
+        instructor = userRepository.save(user(prefix + "-instructor", User.Role.INSTRUCTOR));
+    }
+
+    private Schedule schedule() {
+        LocalDateTime start = LocalDateTime.now().minusHours(2);
+        return scheduleRepository.save(Schedule.builder()
+                .title("class")
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .instructor(instructor)
+                .organization(organization)
+                .maxCapacity(STUDENTS)
+                .build());
+    }
+
+    private List<Enrollment> enroll(Schedule schedule, int count) {
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User member = userRepository.save(user(prefix + "-" + schedule.getId() + "-member" + i, User.Role.MEMBER));
+            enrollments.add(enrollmentRepository.save(Enrollment.builder()
+                    .schedule(schedule)
+                    .member(member)
+                    .enrolledAt(LocalDateTime.now())
+                    .scheduleStartTime(schedule.getStartTime())
+                    .attendanceStatus(Enrollment.AttendanceStatus.PENDING)
+                    .build()));
+        }
+        return enrollments;
+    }
+
+    private int countByStatus(Schedule schedule, String status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM enrollment WHERE schedule_id = ? AND attendance_status = ?",
+                Integer.class, schedule.getId(), status);
+    }
+
+    private User user(String name, User.Role role) {
+        return User.builder()
+                .email(name + "@attendance.test")
+                .password("password")
+                .name(name)
+                .role(role)
+                .organization(organization)
+                .build();
+    }
+}
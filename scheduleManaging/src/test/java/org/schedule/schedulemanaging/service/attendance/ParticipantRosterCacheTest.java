@@ -0,0 +1,41 @@
+package org.schedule.schedulemanaging.service.attendance;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.dto.attendance.ParticipantResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParticipantRosterCacheTest {
+
+    private static final String INSTRUCTOR = "instructor@test.com";
+
+    private final ParticipantRosterCache cache = new ParticipantRosterCache(100, Duration.ofMinutes(10));
+
+    @Test
+    void rosterLoadedBeforeEvictionIsNotCached() {
+        long generation = cache.generation(1L);
+        List<ParticipantResponse> stale = List.of(participant(10L));
+
+        cache.evict(1L); // 조회 중 예약 변경 커밋
+        cache.put(1L, INSTRUCTOR, stale, generation);
+
+        assertThat(cache.get(1L, INSTRUCTOR)).isNull();
+    }
+
+    @Test
+    void rosterLoadedAfterEvictionIsCached() {
+        cache.evict(1L);
+        long generation = cache.generation(1L);
+        cache.put(1L, INSTRUCTOR, List.of(participant(10L)), generation);
+
+        assertThat(cache.get(1L, INSTRUCTOR)).extracting(ParticipantResponse::getEnrollmentId).containsExactly(10L);
+        assertThat(cache.get(1L, "other@test.com")).isNull();
+    }
+
+    private ParticipantResponse participant(Long enrollmentId) {
+        return ParticipantResponse.builder().enrollmentId(enrollmentId).memberName("member").build();
+    }
+}
@@ -0,0 +1,163 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.enrollment.EnrollmentResponse;
+import org.schedule.schedulemanaging.entity.Membership;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.Schedule;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.MembershipRepository;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모드별로 실제 예약/취소 경로에 1,000쌍을 동시에 흘린 뒤 좌석 수와 회원권 잔여 횟수가 DB 기준으로 맞는지 확인.
+ */
+class EnrollmentConsistencyTest extends PostgresIntegrationTest {
+
+    private static final int MEMBERS = 100;
+    private static final int PAIRS_PER_MEMBER = 10;
+    private static final int PASSES = 20;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+    @Autowired
+    private EnrollmentProperties properties;
+    @Autowired
+    private SeatLedger seatLedger;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private MembershipRepository membershipRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @EnumSource(EnrollmentMode.class)
+    void concurrentEnrollCancelPairsKeepSeatsAndPassesConsistent(EnrollmentMode mode) throws Exception {
+        String prefix = UUID.randomUUID().toString();
+        Organization organization = organizationRepository.save(Organization.builder().name(prefix).build());
+        properties.getTenantModes().put(organization.getId(), mode);
+        try {
+            User instructor = userRepository.save(user(prefix + "-instructor", User.Role.INSTRUCTOR, organization));
+            LocalDateTime start = LocalDateTime.now().plusDays(30);
+            // 정원 = 회원 수: 대기열로 빠지지 않고 매번 좌석 차감/반환 경로를 탐
+            Schedule schedule = scheduleRepository.save(Schedule.builder()
+                    .title("class")
+                    .startTime(start)
+                    .endTime(start.plusHours(1))
+                    .instructor(instructor)
+                    .organization(organization)
+                    .maxCapacity(MEMBERS)
+                    .build());
+
+            List<User> members = new ArrayList<>();
+            for (int i = 0; i < MEMBERS; i++) {
+                User member = userRepository.save(user(prefix + "-member" + i, User.Role.MEMBER, organization));
+                membershipRepository.save(Membership.builder()
+                        .user(member)
+                        .organization(organization)
+                        .totalCount(PASSES)
+                        .remainingCount(PASSES)
+                        .expiryDate(LocalDate.now().plusMonths(3))
+                        .build());
+                members.add(member);
+            }
+
+            // 회원마다 예약/취소 10쌍을 순서대로, 회원끼리는 동시에 (총 1,000쌍). 짝수 번째 회원은 마지막에 한 번 더 예약
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < MEMBERS; i++) {
+                    String email = members.get(i).getEmail();
+                    boolean keep = i % 2 == 0;
+                    futures.add(executor.submit(() -> {
+                        for (int pair = 0; pair < PAIRS_PER_MEMBER; pair++) {
+                            EnrollmentResponse response = untilSettled(() -> enrollmentService.enroll(email, schedule.getId()));
+                            assertThat(response.getStatus()).isEqualTo(EnrollmentResponse.Status.ENROLLED);
+                            untilSettled(() -> {
+                                enrollmentService.cancel(email, schedule.getId());
+                                return null;
+                            });
+                        }
+                        if (keep) {
+                            untilSettled(() -> enrollmentService.enroll(email, schedule.getId()));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            seatLedger.flush(); // LEDGER 모드는 좌석 수를 주기적으로 일괄 반영
+
+            int currentParticipants = jdbcTemplate.queryForObject(
+                    "SELECT current_participants FROM schedules WHERE id = ?", Integer.class, schedule.getId());
+            int enrollments = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM enrollment WHERE schedule_id = ?", Integer.class, schedule.getId());
+            assertThat(enrollments).isEqualTo(MEMBERS / 2);
+            assertThat(currentParticipants).isEqualTo(enrollments);
+
+            Map<Long, Integer> remaining = new HashMap<>();
+            jdbcTemplate.query("SELECT user_id, remaining_count FROM memberships WHERE organization_id = ?",
+                    rs -> {
+                        remaining.put(rs.getLong("user_id"), rs.getInt("remaining_count"));
+                    }, organization.getId());
+            for (int i = 0; i < MEMBERS; i++) {
+                assertThat(remaining.get(members.get(i).getId()))
+                        .as("member %d", i)
+                        .isEqualTo(i % 2 == 0 ? PASSES - 1 : PASSES);
+            }
+        } finally {
+            properties.getTenantModes().remove(organization.getId());
+        }
+    }
+
+    // 재시도 한도를 넘긴 충돌은 아무것도 반영되지 않은 실패이므로 다시 시도
+    private static <T> T untilSettled(Supplier<T> action) {
+        while (true) {
+            try {
+                return action.get();
+            } catch (BaseException e) {
+                if (e.getErrorCode() != ErrorCode.ENROLLMENT_CONFLICT) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private User user(String name, User.Role role, Organization organization) {
+        return User.builder()
+                .email(name + "@consistency.test")
+                .password("password")
+                .name(name)
+                .role(role)
+                .organization(organization)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.repository.EnrollmentRepository;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.service.schedule.SeatAvailabilityFeed;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SeatLedgerTest {
+
+    private final SeatLedger seatLedger = new SeatLedger(
+            mock(ScheduleRepository.class),
+            mock(EnrollmentRepository.class),
+            mock(SeatAvailabilityFeed.class),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void concurrentReservationsNeverExceedCapacity() throws InterruptedException {
+        int attempts = 2_000;
+        int capacity = 30;
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < attempts; i++) {
+                executor.submit(() -> {
+                    ready.countDown();
+                    try {
+                        start.await();
+                        if (seatLedger.tryReserve(1L, () -> capacity)) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            done.await();
+        }
+
+        assertThat(succeeded.get()).isEqualTo(capacity);
+        assertThat(seatLedger.remaining(1L)).isZero();
+    }
+
+    @Test
+    void releasedSeatCanBeReservedAgain() {
+        assertThat(seatLedger.tryReserve(2L, () -> 1)).isTrue();
+        assertThat(seatLedger.tryReserve(2L, () -> 1)).isFalse();
+
+        seatLedger.release(2L);
+
+        assertThat(seatLedger.tryReserve(2L, () -> 1)).isTrue();
+    }
+
+    @Test
+    void rollbackAfterReloadReturnsSeatToReloadedLedgerOnce() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(seatLedger.tryReserve(4L, () -> 2)).isTrue();
+
+            // 선점 트랜잭션이 끝나기 전에 원장이 무효화/재적재됨 (DB 잔여 좌석은 아직 2)
+            seatLedger.invalidate(4L);
+            try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+                assertThat(executor.submit(() -> seatLedger.tryReserve(4L, () -> 2)).get()).isTrue();
+            }
+            assertThat(seatLedger.remaining(4L)).isZero();
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 정원 2 - 재적재 후 선점 1 = 1
+        assertThat(seatLedger.remaining(4L)).isEqualTo(1);
+        assertThat(seatLedger.pendingDelta(4L)).isZero();
+    }
+
+    @Test
+    void concurrentEnrollCancelPairsKeepSeatCountsConsistent() throws InterruptedException {
+        int pairs = 1_000;
+        int capacity = 30;
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < pairs; i++) {
+                boolean keep = i % 4 == 0; // 일부는 취소하지 않고 남겨 최종 인원이 0이 아닌 경우도 검증
+                executor.submit(() -> {
+                    start.await();
+                    if (!seatLedger.tryReserve(3L, () -> capacity)) {
+                        return null;
+                    }
+                    seatLedger.recordCommitted(3L, 1); // 예약 커밋
+                    enrolled.incrementAndGet();
+                    if (!keep) {
+                        seatLedger.returnSeatAfterCommit(3L); // 트랜잭션 밖이므로 즉시 반환
+                        cancelled.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        int holding = enrolled.get() - cancelled.get();
+        assertThat(holding).isBetween(0, capacity);
+        // 원장 잔여 좌석 + 보유 좌석 = 정원, DB 반영 대기분 = 보유 좌석 (예약/취소 쌍은 서로 상쇄)
+        assertThat(seatLedger.remaining(3L) + holding).isEqualTo(capacity);
+        assertThat(seatLedger.pendingDelta(3L)).isEqualTo(holding);
+    }
+}
@@ -0,0 +1,54 @@
+package org.schedule.schedulemanaging.service.enrollment;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.repository.WaitlistEntryRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WaitlistIndexTest {
+
+    private final WaitlistEntryRepository repository = mock(WaitlistEntryRepository.class);
+    private final WaitlistIndex index = new WaitlistIndex(repository, 100, Duration.ofMinutes(30));
+
+    @Test
+    void loadsQueueOnceAndTracksChangesWithoutTransaction() {
+        when(repository.findQueue(1L)).thenReturn(List.<Object[]>of(new Object[]{10L, 100L}, new Object[]{11L, 101L}));
+
+        assertThat(index.hasWaiters(1L)).isTrue();
+        assertThat(index.size(1L)).isEqualTo(2);
+
+        index.addAfterCommit(1L, 12L, 102L);
+        index.removeAfterCommit(1L, 10L);
+        index.removeMemberAfterCommit(1L, 101L);
+
+        assertThat(index.size(1L)).isEqualTo(1);
+        verify(repository, times(1)).findQueue(1L);
+    }
+
+    @Test
+    void emptyScheduleHasNoWaiters() {
+        when(repository.findQueue(2L)).thenReturn(List.of());
+
+        assertThat(index.hasWaiters(2L)).isFalse();
+    }
+
+    @Test
+    void evictedQueueIsReloadedFromDatabase() {
+        when(repository.findQueue(3L))
+                .thenReturn(List.<Object[]>of(new Object[]{30L, 300L}))
+                .thenReturn(List.of());
+
+        assertThat(index.hasWaiters(3L)).isTrue();
+        index.evictAfterCommit(3L);
+
+        assertThat(index.hasWaiters(3L)).isFalse();
+        verify(repository, times(2)).findQueue(3L);
+    }
+}
@@ -0,0 +1,40 @@
+package org.schedule.schedulemanaging.service.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvExportWriterTest {
+
+    @Test
+    void writesBomHeaderAndEscapedRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (CsvExportWriter writer = new CsvExportWriter(out)) {
+            writer.header("상품명", "금액", "구매일시");
+            writer.row("10회권, 주말", new BigDecimal("150000.00"), LocalDateTime.of(2026, 3, 1, 9, 30));
+            writer.row("say \"hi\"", null, null);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFF상품명,금액,구매일시\r\n" +
+                "\"10회권, 주말\",150000.00,2026-03-01 09:30:00\r\n" +
+                "\"say \"\"hi\"\"\",,\r\n");
+    }
+
+    @Test
+    void neutralizesSpreadsheetFormulas() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (CsvExportWriter writer = new CsvExportWriter(out)) {
+            writer.row("=HYPERLINK(\"x\")", "-5", -5L);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\",'-5,-5\r\n");
+    }
+}
@@ -0,0 +1,62 @@
+package org.schedule.schedulemanaging.service.export;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportServiceTest {
+
+    private static final String EMAIL = "owner@test.com";
+
+    private final UserIdentityResolver resolver = mock(UserIdentityResolver.class);
+    private final ExportSlots slots = new ExportSlots(2);
+    private final ExportService service = new ExportService(
+            mock(DataSource.class), mock(PlatformTransactionManager.class), resolver, slots, 1000);
+
+    @Test
+    void exportIsRejectedForNonManagersWithoutTakingASlot() {
+        when(resolver.requireRole(eq(EMAIL), eq(ErrorCode.NOT_MANAGER), any(User.Role[].class)))
+                .thenThrow(new BaseException(ErrorCode.NOT_MANAGER));
+
+        assertThatThrownBy(() -> service.exportPurchases(EMAIL, 2026, ExportFormat.CSV))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_MANAGER);
+        assertThat(slots.available()).isEqualTo(2);
+    }
+
+    @Test
+    void exportsBeyondTheLimitAreRejectedUntilASlotIsReturned() {
+        when(resolver.requireOrganizationId(EMAIL)).thenReturn(7L);
+
+        service.exportPurchases(EMAIL, 2026, ExportFormat.CSV);
+        service.exportSettlements(EMAIL, 2026, ExportFormat.CSV);
+
+        assertThatThrownBy(() -> service.exportPurchases(EMAIL, 2026, ExportFormat.CSV))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXPORT_BUSY);
+    }
+
+    @Test
+    void slotIsReturnedOnlyOnce() {
+        ExportSlots.Slot slot = slots.acquire();
+        assertThat(slots.available()).isEqualTo(1);
+
+        slot.release(); // 본문 종료
+        slot.release(); // 비동기 요청 종료
+        assertThat(slots.available()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,95 @@
+package org.schedule.schedulemanaging.service.membership;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.dto.membership.MembershipBalance;
+import org.schedule.schedulemanaging.repository.MembershipRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MembershipBalanceServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    private final MembershipRepository repository = mock(MembershipRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final MembershipBalanceService service = new MembershipBalanceService(
+            repository, jdbcTemplate, Clock.fixed(Instant.parse("2026-03-01T00:30:00Z"), ZoneOffset.UTC),
+            100, Duration.ofMinutes(5));
+
+    @Test
+    void bookableCheckIsServedFromCache() {
+        when(repository.findActiveBalances(eq(1L), eq(2L), eq(TODAY), any()))
+                .thenReturn(List.of(new MembershipBalance(10L, 3, TODAY.plusDays(30), 0)));
+
+        service.requireBookable(1L, 2L);
+        MembershipBalance balance = service.requireBookable(1L, 2L);
+
+        assertThat(balance.remainingCount()).isEqualTo(3);
+        verify(repository, times(1)).findActiveBalances(eq(1L), eq(2L), eq(TODAY), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void staleCacheReloadsAndRetriesDecrementOnce() {
+        when(repository.findActiveBalances(eq(1L), eq(2L), eq(TODAY), any()))
+                .thenReturn(List.of(new MembershipBalance(10L, 1, TODAY.plusDays(30), 0)))
+                .thenReturn(List.of(new MembershipBalance(11L, 5, TODAY.plusDays(60), 0)));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(10L), any())).thenReturn(List.of());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(11L), any()))
+                .thenReturn(List.of(new MembershipBalance(11L, 4, TODAY.plusDays(60), 1)));
+
+        MembershipBalance used = service.usePass(1L, 2L);
+
+        assertThat(used.membershipId()).isEqualTo(11L);
+        assertThat(service.requireBookable(1L, 2L).remainingCount()).isEqualTo(4);
+        verify(repository, times(2)).findActiveBalances(eq(1L), eq(2L), eq(TODAY), any());
+    }
+
+    @Test
+    void staleNegativeCacheIsReloadedOnceBeforeRejecting() {
+        when(repository.findActiveBalances(eq(1L), eq(2L), eq(TODAY), any()))
+                .thenReturn(List.of(new MembershipBalance(10L, 0, TODAY.plusDays(30), 0)))
+                .thenReturn(List.of(new MembershipBalance(11L, 10, TODAY.plusDays(90), 0)));
+
+        // 방금 DB에서 읽은 값으로는 다시 조회하지 않고 거절
+        assertThatThrownBy(() -> service.requireBookable(1L, 2L))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INSUFFICIENT_PASSES);
+        verify(repository, times(1)).findActiveBalances(eq(1L), eq(2L), eq(TODAY), any());
+
+        // 캐시된 소진 결과는 새 회원권 구매를 놓치지 않도록 한 번 다시 읽음
+        assertThat(service.requireBookable(1L, 2L).membershipId()).isEqualTo(11L);
+        verify(repository, times(2)).findActiveBalances(eq(1L), eq(2L), eq(TODAY), any());
+    }
+
+    @Test
+    void expiryIsJudgedByInjectedClock() {
+        when(repository.findActiveBalances(eq(1L), eq(2L), eq(TODAY), any()))
+                .thenReturn(List.of(new MembershipBalance(10L, 3, TODAY.minusDays(1), 0)));
+
+        assertThatThrownBy(() -> service.requireBookable(1L, 2L))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MEMBERSHIP_EXPIRED);
+    }
+}
@@ -0,0 +1,70 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class FcmBatchDispatcherTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StubFcmClient fcmClient = new StubFcmClient();
+    private final FcmBatchDispatcher dispatcher = new FcmBatchDispatcher(
+            fcmClient, userRepository, new SyncTaskExecutor(), 20_000);
+
+    @Test
+    void bufferedPushesAreSentInBatchesOfAtMost500() {
+        int pushes = 10_000;
+        for (int i = 0; i < pushes; i++) {
+            dispatcher.enqueue(new FcmPush("token-" + i, "수업 취소", "오늘 수업이 취소되었습니다."));
+        }
+
+        dispatcher.flush();
+
+        assertThat(fcmClient.sent.get()).isEqualTo(pushes);
+        assertThat(fcmClient.calls.get()).isEqualTo(pushes / FcmClient.MAX_BATCH_SIZE);
+        assertThat(fcmClient.maxBatch).isLessThanOrEqualTo(FcmClient.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    void deadTokensArePrunedAndResultsKeepInputOrder() {
+        List<FcmPush> pushes = List.of(
+                new FcmPush("alive-1", "t", "c"),
+                new FcmPush("dead-1", "t", "c"),
+                new FcmPush("alive-2", "t", "c"));
+
+        List<FcmSendResult> results = dispatcher.dispatch(pushes);
+
+        assertThat(results).extracting(FcmSendResult::isSuccess).containsExactly(true, false, true);
+        verify(userRepository).clearFcmTokens(argThat((Collection<String> tokens) ->
+                tokens.size() == 1 && tokens.contains("dead-1")));
+    }
+
+    // "dead-" 로 시작하는 토큰은 UNREGISTERED 로 응답하는 로컬 스텁
+    private static class StubFcmClient implements FcmClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger sent = new AtomicInteger();
+        private volatile int maxBatch;
+
+        @Override
+        public List<FcmSendResult> sendEach(List<FcmPush> pushes) {
+            calls.incrementAndGet();
+            sent.addAndGet(pushes.size());
+            maxBatch = Math.max(maxBatch, pushes.size());
+            return pushes.stream()
+                    .map(push -> push.getToken().startsWith("dead-")
+                            ? FcmSendResult.failed(MessagingErrorCode.UNREGISTERED)
+                            : FcmSendResult.ok())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.schedule.schedulemanaging.service.notification;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageTemplateEngineTest {
+
+    private final MessageTemplateEngine engine = new MessageTemplateEngine(2);
+
+    @Test
+    void compiledRenderMatchesReplace() {
+        String template = "#{name}님, #{date} '#{title}' 수업이 예약되었습니다. #{name}님 감사합니다. #{unclosed";
+        Map<String, String> variables = Map.of("name", "김회원", "date", "10/18", "title", "요가");
+        engine.register("reserved", template, variables.keySet());
+
+        assertThat(engine.render("reserved", variables))
+                .isEqualTo(engine.replace(template, variables))
+                .isEqualTo("김회원님, 10/18 '요가' 수업이 예약되었습니다. 김회원님 감사합니다. #{unclosed");
+    }
+
+    @Test
+    void undeclaredVariableFailsAtCompileTime() {
+        assertThatThrownBy(() -> engine.compile("cancel", "#{name}님 #{title} 취소", Set.of("name")))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TEMPLATE_INVALID);
+    }
+
+    @Test
+    void missingValueFailsAtRender() {
+        CompiledTemplate compiled = engine.compile("cancel", "#{name}님 #{title} 취소", Set.of("name", "title"));
+
+        assertThatThrownBy(() -> engine.render(compiled, Map.of("name", "김회원")))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TEMPLATE_VARIABLE_MISSING);
+    }
+
+    @Test
+    void changedTemplateIsRecompiled() {
+        engine.register("notice", "A #{x}", Set.of("x"));
+
+        assertThat(engine.render("notice", "A #{x}", Map.of("x", "1"))).isEqualTo("A 1");
+        assertThat(engine.render("notice", "B #{x}", Map.of("x", "1"))).isEqualTo("B 1");
+    }
+
+    @Test
+    void changedTemplateIsValidatedAgainstRegisteredVariables() {
+        engine.register("notice", "A #{x}", Set.of("x"));
+
+        // 렌더링 값에 y가 있어도 등록 시 선언하지 않은 변수이므로 거부
+        assertThatThrownBy(() -> engine.render("notice", "B #{x} #{y}", Map.of("x", "1", "y", "2")))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TEMPLATE_INVALID);
+    }
+
+    @Test
+    void unregisteredTemplateIsRejected() {
+        assertThatThrownBy(() -> engine.render("unknown", "#{x}", Map.of("x", "1")))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TEMPLATE_NOT_REGISTERED);
+    }
+}
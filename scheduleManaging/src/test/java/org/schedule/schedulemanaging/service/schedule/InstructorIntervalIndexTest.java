@@ -0,0 +1,56 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleInterval;
+import org.schedule.schedulemanaging.dto.schedule.TimeSlotResponse;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstructorIntervalIndexTest {
+
+    private static final Long ORG = 1L;
+    private static final Long INSTRUCTOR = 10L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 19, 0, 0);
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final InstructorIntervalIndex index = new InstructorIntervalIndex(scheduleRepository);
+
+    @Test
+    void rejectsOverlapLoadedFromDatabaseButAllowsBackToBackAndOtherInstructors() {
+        when(scheduleRepository.findIntervalsByOrganization(ORG)).thenReturn(List.of(
+                new ScheduleInterval(1L, INSTRUCTOR, DAY.plusHours(10), DAY.plusHours(11))));
+
+        assertThatThrownBy(() -> index.add(ORG, INSTRUCTOR, 2L, DAY.plusHours(10).plusMinutes(30), DAY.plusHours(12)))
+                .isInstanceOf(BaseException.class);
+
+        index.add(ORG, INSTRUCTOR, 3L, DAY.plusHours(11), DAY.plusHours(12));
+        index.add(ORG, 20L, 4L, DAY.plusHours(10), DAY.plusHours(11));
+    }
+
+    @Test
+    void moveExcludesItselfAndFreeSlotsFollowTheNewTime() {
+        when(scheduleRepository.findIntervalsByOrganization(ORG)).thenReturn(List.of(
+                new ScheduleInterval(1L, INSTRUCTOR, DAY.plusHours(9), DAY.plusHours(10)),
+                new ScheduleInterval(2L, INSTRUCTOR, DAY.plusHours(13), DAY.plusHours(14))));
+
+        index.move(ORG, 1L, INSTRUCTOR, DAY.plusHours(9), DAY.plusHours(10),
+                INSTRUCTOR, DAY.plusHours(9).plusMinutes(30), DAY.plusHours(10).plusMinutes(30));
+
+        List<TimeSlotResponse> slots = index.findFreeSlots(ORG, INSTRUCTOR, DAY.plusHours(8), DAY.plusHours(18), Duration.ofMinutes(60));
+
+        assertThat(slots).extracting(TimeSlotResponse::getStartTime, TimeSlotResponse::getEndTime)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple(DAY.plusHours(8), DAY.plusHours(9).plusMinutes(30)),
+                        org.assertj.core.groups.Tuple.tuple(DAY.plusHours(10).plusMinutes(30), DAY.plusHours(13)),
+                        org.assertj.core.groups.Tuple.tuple(DAY.plusHours(14), DAY.plusHours(18)));
+    }
+}
@@ -0,0 +1,70 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    void matchesBruteForceOracleUnderRandomInsertsAndRemovals() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> oracle = new ArrayList<>(); // {id, start, end}
+        long nextId = 1;
+
+        for (int step = 0; step < 20_000; step++) {
+            if (oracle.isEmpty() || random.nextInt(3) > 0) {
+                long start = random.nextInt(100_000);
+                long end = start + 1 + random.nextInt(500);
+                tree.insert(nextId, start, end);
+                oracle.add(new long[]{nextId++, start, end});
+            } else {
+                long[] removed = oracle.remove(random.nextInt(oracle.size()));
+                assertThat(tree.remove(removed[0], removed[1])).isTrue();
+            }
+
+            if (step % 10 == 0) {
+                long start = random.nextInt(100_000);
+                long end = start + 1 + random.nextInt(1_000);
+                long excludeId = oracle.isEmpty() ? -1 : oracle.get(random.nextInt(oracle.size()))[0];
+                assertQueriesMatch(tree, oracle, start, end, excludeId);
+            }
+        }
+        assertThat(tree.size()).isEqualTo(oracle.size());
+    }
+
+    @Test
+    void adjacentIntervalsDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1, 100, 200);
+
+        assertThat(tree.findOverlap(200, 300, IntervalTree.NONE)).isEqualTo(IntervalTree.NONE);
+        assertThat(tree.findOverlap(0, 100, IntervalTree.NONE)).isEqualTo(IntervalTree.NONE);
+        assertThat(tree.findOverlap(199, 201, IntervalTree.NONE)).isEqualTo(1);
+        assertThat(tree.findOverlap(150, 160, 1)).isEqualTo(IntervalTree.NONE);
+    }
+
+    private static void assertQueriesMatch(IntervalTree tree, List<long[]> oracle, long start, long end, long excludeId) {
+        List<long[]> expected = oracle.stream()
+                .filter(interval -> interval[1] < end && interval[2] > start)
+                .sorted(Comparator.<long[]>comparingLong(interval -> interval[1]).thenComparingLong(interval -> interval[0]))
+                .toList();
+
+        assertThat(tree.overlapping(start, end)).containsExactlyElementsOf(expected);
+
+        boolean expectOverlap = expected.stream().anyMatch(interval -> interval[0] != excludeId);
+        long found = tree.findOverlap(start, end, excludeId);
+        if (expectOverlap) {
+            assertThat(found).isNotEqualTo(excludeId);
+            assertThat(expected).anyMatch(interval -> interval[0] == found);
+        } else {
+            assertThat(found).isEqualTo(IntervalTree.NONE);
+        }
+    }
+}
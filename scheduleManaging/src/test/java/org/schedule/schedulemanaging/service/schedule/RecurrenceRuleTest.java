@@ -0,0 +1,44 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void expandsWeeklyDaysUntilInclusiveDateSkippingExceptions() {
+        RecurrenceRule rule = new RecurrenceRule(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), LocalDate.of(2026, 11, 2));
+
+        assertThat(rule.expand(LocalDate.of(2026, 10, 19), Set.of(LocalDate.of(2026, 10, 21)), 100))
+                .containsExactly(
+                        LocalDate.of(2026, 10, 19),
+                        LocalDate.of(2026, 10, 26),
+                        LocalDate.of(2026, 10, 28),
+                        LocalDate.of(2026, 11, 2));
+    }
+
+    @Test
+    void formatAndParseRoundTrip() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TU,TH,SA;UNTIL=20261231");
+
+        assertThat(rule.days()).containsExactly(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY, DayOfWeek.SATURDAY);
+        assertThat(RecurrenceRule.parse(rule.format())).isEqualTo(rule);
+    }
+
+    @Test
+    void rejectsUnsupportedRulesAndTooManyOccurrences() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=20261231"))
+                .isInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> new RecurrenceRule(EnumSet.allOf(DayOfWeek.class), LocalDate.of(2030, 1, 1))
+                .expand(LocalDate.of(2026, 1, 1), Set.of(), 100))
+                .isInstanceOf(BaseException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleSeriesRequest;
+import org.schedule.schedulemanaging.dto.schedule.ScheduleSeriesResponse;
+import org.schedule.schedulemanaging.entity.Organization;
+import org.schedule.schedulemanaging.entity.User;
+import org.schedule.schedulemanaging.repository.OrganizationRepository;
+import org.schedule.schedulemanaging.repository.UserRepository;
+import org.schedule.schedulemanaging.support.PostgresIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSeriesServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ScheduleSeriesService seriesService;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movingTodaysStartedOccurrenceLaterDoesNotDuplicateTheDate() {
+        String prefix = UUID.randomUUID().toString();
+        Organization organization = organizationRepository.save(Organization.builder().name(prefix).build());
+        User instructor = userRepository.save(User.builder()
+                .email(prefix + "@series.test")
+                .password("password")
+                .name(prefix)
+                .role(User.Role.INSTRUCTOR)
+                .organization(organization)
+                .build());
+        LocalDate today = LocalDate.now();
+
+        // 오늘 회차는 00:00에 이미 시작한 상태
+        ScheduleSeriesResponse created = seriesService.createSeries(instructor.getEmail(),
+                request(today, LocalTime.MIDNIGHT, LocalTime.of(0, 1)));
+        assertThat(created.getCreated()).isEqualTo(3);
+
+        // 새 시작 시각(23:58)은 오늘 기준 미래지만 오늘 날짜에는 이미 회차가 있음
+        ScheduleSeriesResponse updated = seriesService.updateSeries(instructor.getEmail(), created.getSeriesId(),
+                request(today, LocalTime.of(23, 58), LocalTime.of(23, 59)));
+
+        assertThat(updated.getCreated()).isZero();
+        assertThat(updated.getUpdated()).isEqualTo(2);
+        Integer todays = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schedules WHERE series_id = ? AND CAST(start_time AS date) = ?",
+                Integer.class, created.getSeriesId(), Date.valueOf(today));
+        assertThat(todays).isEqualTo(1);
+    }
+
+    private ScheduleSeriesRequest request(LocalDate today, LocalTime start, LocalTime end) {
+        return ScheduleSeriesRequest.builder()
+                .title("class")
+                .maxCapacity(10)
+                .startDate(today)
+                .untilDate(today.plusDays(2))
+                .startTime(start)
+                .endTime(end)
+                .daysOfWeek(EnumSet.allOf(DayOfWeek.class))
+                .build();
+    }
+}
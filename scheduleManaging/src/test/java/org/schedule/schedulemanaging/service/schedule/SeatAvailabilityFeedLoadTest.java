@@ -0,0 +1,137 @@
+package org.schedule.schedulemanaging.service.schedule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.dto.schedule.SeatCount;
+import org.schedule.schedulemanaging.repository.ScheduleRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 피드 부하 테스트: 한 조직에 SUBSCRIBERS개 연결을 열고 그중 일부는 전송이 끝나지 않는(응답을 읽지 않는) 클라이언트로 둠.
+ * flush 한 번이 모든 정상 구독자에게 퍼지는 시간을 출력하고, 막힌 구독자가 send-timeout 후 끊기는지 확인.
+ */
+class SeatAvailabilityFeedLoadTest {
+
+    private static final long ORGANIZATION_ID = 1L;
+    private static final int SUBSCRIBERS = 2_000;
+    private static final int STUCK_EVERY = 100; // 1%
+    private static final int DIRTY_SCHEDULES = 50;
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final UserIdentityResolver resolver = mock(UserIdentityResolver.class);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final List<LoadEmitter> emitters = new ArrayList<>();
+    private final AtomicInteger seatCounter = new AtomicInteger();
+
+    private final SeatAvailabilityFeed feed = new SeatAvailabilityFeed(scheduleRepository, resolver, new SimpleMeterRegistry(),
+            Duration.ofMinutes(30), SEND_TIMEOUT, SUBSCRIBERS) {
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            LoadEmitter emitter = new LoadEmitter(timeoutMillis, emitters.size() % STUCK_EVERY == 0);
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        feed.shutdown();
+    }
+
+    @Test
+    void flushFansOutToAllSubscribersAndDropsStuckOnes() throws Exception {
+        when(resolver.requireOrganizationId(anyString())).thenReturn(ORGANIZATION_ID);
+        when(scheduleRepository.findSeatCounts(anyCollection())).thenAnswer(invocation -> {
+            int current = seatCounter.incrementAndGet();
+            List<SeatCount> seats = new ArrayList<>();
+            for (Long id : invocation.<Collection<Long>>getArgument(0)) {
+                seats.add(new SeatCount(id, ORGANIZATION_ID, current, 20));
+            }
+            return seats;
+        });
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            feed.subscribe("member" + i + "@load.test");
+        }
+        List<LoadEmitter> healthy = emitters.stream().filter(emitter -> !emitter.stuck).toList();
+        int stuck = SUBSCRIBERS - healthy.size();
+
+        // 1차: 모든 구독자에게 전송 (막힌 구독자는 첫 send에서 멈춤)
+        long fanOutNanos = flushAndAwait(healthy, 1);
+        System.out.printf("seat feed fan-out: %d subscribers x %d schedules in %d ms%n",
+                healthy.size(), DIRTY_SCHEDULES, fanOutNanos / 1_000_000);
+
+        // send-timeout이 지난 뒤 다음 flush에서 막힌 구독자를 끊음
+        Thread.sleep(SEND_TIMEOUT.toMillis() * 2);
+        long secondNanos = flushAndAwait(healthy, 2);
+        System.out.printf("seat feed fan-out after dropping %d stuck subscribers: %d ms%n", stuck, secondNanos / 1_000_000);
+
+        assertThat(feed.subscriberCount()).isEqualTo(healthy.size());
+        assertThat(emitters.stream().filter(emitter -> emitter.stuck))
+                .allSatisfy(emitter -> assertThat(emitter.sent.get()).isZero());
+    }
+
+    private long flushAndAwait(List<LoadEmitter> healthy, int expectedEvents) throws InterruptedException {
+        for (long id = 1; id <= DIRTY_SCHEDULES; id++) {
+            feed.markDirty(id);
+        }
+        long started = System.nanoTime();
+        feed.flush();
+        awaitTrue(() -> healthy.stream().allMatch(emitter -> emitter.sent.get() >= expectedEvents));
+        return System.nanoTime() - started;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("fan-out did not finish in 10s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 전송 횟수만 세는 emitter. stuck이면 테스트가 끝날 때까지 send가 반환되지 않음 (소켓 버퍼가 찬 클라이언트).
+     */
+    private final class LoadEmitter extends SseEmitter {
+
+        private final boolean stuck;
+        private final AtomicInteger sent = new AtomicInteger();
+
+        private LoadEmitter(long timeoutMillis, boolean stuck) {
+            super(timeoutMillis);
+            this.stuck = stuck;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (stuck) {
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                return;
+            }
+            sent.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.schedule.schedulemanaging.service.statistics;
+
+import org.junit.jupiter.api.Test;
+import org.schedule.schedulemanaging.common.exception.BaseException;
+import org.schedule.schedulemanaging.common.exception.ErrorCode;
+import org.schedule.schedulemanaging.repository.RevenueDailyRollupRepository;
+import org.schedule.schedulemanaging.security.UserIdentityResolver;
+import org.schedule.schedulemanaging.security.UserPrincipal;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatisticsServiceTest {
+
+    private static final String EMAIL = "owner@test.com";
+
+    private final RevenueRollupService rollupService = mock(RevenueRollupService.class);
+    private final UserIdentityResolver resolver = mock(UserIdentityResolver.class);
+    private final StatisticsService service = new StatisticsService(
+            mock(RevenueDailyRollupRepository.class), rollupService, resolver);
+
+    @Test
+    void rebuildIsRejectedForInstructors() {
+        when(resolver.resolve(EMAIL)).thenReturn(new UserPrincipal(1L, 7L, EMAIL, "instructor", "INSTRUCTOR"));
+
+        assertThatThrownBy(() -> service.rebuildRollups(EMAIL, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1)))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_MANAGER);
+        verify(rollupService, never()).rebuild(any(), any(), any());
+    }
+
+    @Test
+    void rebuildRangeIsCappedLikeReadEndpoints() {
+        when(resolver.resolve(EMAIL)).thenReturn(new UserPrincipal(1L, 7L, EMAIL, "owner", "USER"));
+        when(resolver.requireOrganizationId(EMAIL)).thenReturn(7L);
+        when(rollupService.rebuild(7L, LocalDate.of(2021, 1, 1), LocalDate.of(2026, 1, 1))).thenReturn(42);
+
+        // [2021-01-01, 2026-01-01) = 60개월
+        assertThat(service.rebuildRollups(EMAIL, LocalDate.of(2021, 1, 1), LocalDate.of(2026, 1, 1))).isEqualTo(42);
+        assertThatThrownBy(() -> service.rebuildRollups(EMAIL, LocalDate.of(2021, 1, 1), LocalDate.of(2026, 1, 2)))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_STATISTICS_RANGE);
+    }
+}